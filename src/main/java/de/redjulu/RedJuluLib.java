@@ -1,13 +1,17 @@
 package de.redjulu;
 
 import de.redjulu.lib.MessageHelper;
+import de.redjulu.lib.actionbar.ActionbarManager;
 import de.redjulu.lib.bossbar.BossbarManager;
 import de.redjulu.lib.filestore.FilestoreConfigLoader;
 import de.redjulu.lib.filestore.FilestoreManager;
 import de.redjulu.lib.gui.GUIAnimationTask;
+import de.redjulu.lib.gui.GUIItemCache;
 import de.redjulu.lib.gui.GUIListener;
 import de.redjulu.lib.item.BoundItem;
+import de.redjulu.lib.item.CooldownPersistence;
 import de.redjulu.lib.lang.LanguageService;
+import de.redjulu.lib.time.TimeFormatter;
 import org.bukkit.Bukkit;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.jetbrains.annotations.NotNull;
@@ -21,6 +25,7 @@ public class RedJuluLib {
     private static JavaPlugin plugin;
     private static LanguageService lang;
     private static BossbarManager bossbarManager;
+    private static ActionbarManager actionbarManager;
     private static FilestoreManager filestoreManager;
     private static boolean debug = false;
     private static boolean initialized = false;
@@ -36,10 +41,14 @@ public class RedJuluLib {
 
         plugin = pluginInstance;
         lang = new LanguageService(plugin, selectedLanguage);
+        lang.addReloadListener(GUIItemCache::invalidate);
+        lang.addReloadListener(TimeFormatter::invalidate);
         bossbarManager = new BossbarManager(plugin);
+        actionbarManager = new ActionbarManager(plugin);
 
         Bukkit.getPluginManager().registerEvents(new GUIListener(), plugin);
         Bukkit.getPluginManager().registerEvents(new BoundItem.BoundListener(), plugin);
+        Bukkit.getPluginManager().registerEvents(actionbarManager, plugin);
 
         new GUIAnimationTask(plugin).start(10L);
         MessageHelper.init(lang);
@@ -76,6 +85,15 @@ public class RedJuluLib {
         return bossbarManager;
     }
 
+    /**
+     * Returns the registered ActionbarManager instance.
+     *
+     * @return The ActionbarManager instance.
+     */
+    public static ActionbarManager getActionbarManager() {
+        return actionbarManager;
+    }
+
     /**
      * Returns the FilestoreManager (initialized in init).
      */
@@ -109,6 +127,8 @@ public class RedJuluLib {
      * Call from your plugin's onDisable().
      */
     public static void shutdown() {
+        if (lang != null) lang.stopWatching();
+        CooldownPersistence.disable();
         if (filestoreManager != null) {
             filestoreManager.shutdown();
             filestoreManager = null;
@@ -0,0 +1,132 @@
+package de.redjulu.lib;
+
+import de.redjulu.RedJuluLib;
+import net.kyori.adventure.text.Component;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * FIFO queue for messages with many recipients.
+ * Each tick at most the configured budget of messages is sent; the rest is spread over the following ticks.
+ * Jobs are processed strictly in the order they were queued, so every recipient gets dispatched messages in order.
+ * Small sends fit into the budget and are delivered immediately.
+ */
+public final class MessageDispatcher {
+
+    private static final ArrayDeque<Job> QUEUE = new ArrayDeque<>();
+    private static int budgetPerTick = 200;
+    private static boolean async = false;
+
+    private static BukkitTask task;
+    private static int currentTick = -1;
+    private static int sentThisTick = 0;
+
+    private static final class Job {
+        private final Player[] recipients;
+        private final List<Component> lines;
+        private int index = 0;
+
+        private Job(Player[] recipients, List<Component> lines) {
+            this.recipients = recipients;
+            this.lines = lines;
+        }
+    }
+
+    private MessageDispatcher() {}
+
+    /**
+     * Sets how many messages may be sent per tick (one line to one player counts as one message).
+     * @param messages The budget (default 200).
+     */
+    public static synchronized void setBudgetPerTick(int messages) {
+        budgetPerTick = Math.max(1, messages);
+    }
+
+    /**
+     * Drains the queue from an async thread instead of the main thread.
+     * Paper queues chat packets thread-safely, so this keeps large broadcasts off the tick entirely.
+     * @param enabled True to send from an async thread.
+     */
+    public static synchronized void setAsync(boolean enabled) {
+        if (async == enabled) return;
+        async = enabled;
+        if (task != null) {
+            task.cancel();
+            task = null;
+            if (!QUEUE.isEmpty()) ensureRunning();
+        }
+    }
+
+    /**
+     * Queues a message for the given players.
+     * @param recipients The receiving players (copied, later changes to the collection are ignored).
+     * @param message The rendered message.
+     */
+    public static void dispatch(@NotNull Collection<? extends Player> recipients, @NotNull Component message) {
+        dispatch(recipients, List.of(message));
+    }
+
+    /**
+     * Queues several lines for the given players. The lines of a player are always sent together and in order.
+     * @param recipients The receiving players (copied, later changes to the collection are ignored).
+     * @param lines The rendered lines.
+     */
+    public static void dispatch(@NotNull Collection<? extends Player> recipients, @NotNull List<Component> lines) {
+        if (recipients.isEmpty() || lines.isEmpty()) return;
+        Job job = new Job(recipients.toArray(new Player[0]), List.copyOf(lines));
+        synchronized (MessageDispatcher.class) {
+            QUEUE.addLast(job);
+            if (!async && Bukkit.isPrimaryThread()) drain();
+            if (!QUEUE.isEmpty()) ensureRunning();
+        }
+    }
+
+    /**
+     * Returns the number of messages still waiting to be sent.
+     */
+    public static synchronized int getPending() {
+        int pending = 0;
+        for (Job job : QUEUE) pending += (job.recipients.length - job.index) * job.lines.size();
+        return pending;
+    }
+
+    private static void ensureRunning() {
+        if (task != null) return;
+        task = async
+                ? Bukkit.getScheduler().runTaskTimerAsynchronously(RedJuluLib.getPlugin(), MessageDispatcher::tick, 1L, 1L)
+                : Bukkit.getScheduler().runTaskTimer(RedJuluLib.getPlugin(), MessageDispatcher::tick, 1L, 1L);
+    }
+
+    private static synchronized void tick() {
+        drain();
+        if (QUEUE.isEmpty() && task != null) {
+            task.cancel();
+            task = null;
+        }
+    }
+
+    private static void drain() {
+        int tick = Bukkit.getCurrentTick();
+        if (tick != currentTick) {
+            currentTick = tick;
+            sentThisTick = 0;
+        }
+
+        while (!QUEUE.isEmpty() && sentThisTick < budgetPerTick) {
+            Job job = QUEUE.peekFirst();
+            while (job.index < job.recipients.length && sentThisTick < budgetPerTick) {
+                Player player = job.recipients[job.index++];
+                if (!player.isOnline()) continue;
+                for (Component line : job.lines) player.sendMessage(line);
+                sentThisTick += job.lines.size();
+            }
+            if (job.index >= job.recipients.length) QUEUE.pollFirst();
+        }
+    }
+}
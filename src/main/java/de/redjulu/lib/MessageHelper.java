@@ -1,6 +1,7 @@
 package de.redjulu.lib;
 
 import de.redjulu.RedJuluLib;
+import de.redjulu.lib.actionbar.ActionbarManager;
 import de.redjulu.lib.lang.LanguageService;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.minimessage.MiniMessage;
@@ -12,7 +13,13 @@ import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
 /**
  * Universal helper for communication.
@@ -32,6 +39,7 @@ public class MessageHelper {
 
     /**
      * Sends a translated message to a sender.
+     * Players receive the message in their client language, other senders in the default language.
      * Empty strings or "none" in the config will result in no message being sent.
      * Supports String and Component placeholders.
      * @param sender The recipient of the message.
@@ -39,7 +47,7 @@ public class MessageHelper {
      * @param placeholders Key-Value pairs for placeholders.
      */
     public static void send(@NotNull CommandSender sender, @NotNull String key, Object... placeholders) {
-        Component msg = lang.get(key, placeholders);
+        Component msg = sender instanceof Player player ? lang.get(player, key, placeholders) : lang.get(key, placeholders);
         if (!msg.equals(Component.empty())) {
             sender.sendMessage(msg);
         }
@@ -78,39 +86,93 @@ public class MessageHelper {
     }
 
     /**
-     * Sends a translated message to a player's action bar.
+     * Sends a translated message to a player's action bar in the player's client language.
      * @param player The player.
      * @param key The translation key.
      * @param placeholders Key-Value pairs for placeholders.
      */
     public static void actionBar(@NotNull Player player, @NotNull String key, Object... placeholders) {
-        Component msg = lang.get(key, placeholders);
+        Component msg = lang.get(player, key, placeholders);
         if (!msg.equals(Component.empty())) {
-            player.sendActionBar(msg);
+            showActionbar(player, msg);
         }
     }
 
     /**
-     * Broadcasts a translated message to all online players.
+     * Broadcasts a translated message to all online players in their client language and to the console.
+     * Recipients are grouped by language, so the message is rendered once per language.
      * @param key The translation key.
      * @param placeholders Key-Value pairs for placeholders.
      */
     public static void broadcast(@NotNull String key, Object... placeholders) {
-        Component msg = lang.get(key, placeholders);
-        if (!msg.equals(Component.empty())) {
-            Bukkit.broadcast(msg);
+        broadcastPersonalized(Bukkit.getOnlinePlayers(), key, null, placeholders);
+        Component console = lang.get(key, placeholders);
+        if (!console.equals(Component.empty())) Bukkit.getConsoleSender().sendMessage(console);
+    }
+
+    /**
+     * Sends a translated message with viewer-dependent placeholders to all online players.
+     * Recipients are grouped by language and by the values returned from viewerPlaceholders;
+     * each distinct group is rendered once and sent to the whole group.
+     * @param key The translation key.
+     * @param viewerPlaceholders Returns the Key-Value pairs that depend on the viewer.
+     * @param placeholders Key-Value pairs shared by all viewers.
+     */
+    public static void broadcastPersonalized(@NotNull String key, @NotNull Function<Player, Object[]> viewerPlaceholders, Object... placeholders) {
+        broadcastPersonalized(Bukkit.getOnlinePlayers(), key, viewerPlaceholders, placeholders);
+    }
+
+    /**
+     * Sends a translated message to the given players, rendering it once per language and viewer-placeholder group.
+     * Delivery goes through the MessageDispatcher, so large recipient sets are spread over several ticks.
+     * @param recipients The receiving players.
+     * @param key The translation key.
+     * @param viewerPlaceholders Returns the Key-Value pairs that depend on the viewer, or null if there are none.
+     * @param placeholders Key-Value pairs shared by all viewers.
+     */
+    public static void broadcastPersonalized(@NotNull Collection<? extends Player> recipients, @NotNull String key,
+                                             @Nullable Function<Player, Object[]> viewerPlaceholders, Object... placeholders) {
+        Map<RenderGroup, List<Player>> groups = new LinkedHashMap<>();
+        for (Player player : recipients) {
+            Object[] viewerValues = viewerPlaceholders == null ? null : viewerPlaceholders.apply(player);
+            RenderGroup group = new RenderGroup(lang.resolveLocale(player), viewerValues == null ? List.of() : Arrays.asList(viewerValues));
+            groups.computeIfAbsent(group, k -> new ArrayList<>()).add(player);
+        }
+
+        for (Map.Entry<RenderGroup, List<Player>> entry : groups.entrySet()) {
+            List<Player> players = entry.getValue();
+            Object[] args = concat(placeholders, entry.getKey().viewerValues());
+            Component msg = lang.get(players.get(0), key, args);
+            if (!msg.equals(Component.empty())) {
+                MessageDispatcher.dispatch(players, msg);
+            }
         }
     }
 
     /**
-     * Broadcasts a translated List to all online players.
-     * @param key
-     * @param placeholders
+     * Broadcasts a translated List to all online players in their client language and to the console.
+     * The list is rendered once per language.
+     * @param key The translation key.
+     * @param placeholders Key-Value pairs for placeholders.
      */
     public static void broadcastList(@NotNull String key, Object... placeholders) {
-        List<Component> msg = lang.getList(key, placeholders);
-        if (msg != null && !msg.isEmpty())
-        msg.forEach(Bukkit::broadcast);
+        Map<String, List<Player>> groups = new LinkedHashMap<>();
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            groups.computeIfAbsent(lang.resolveLocale(player), k -> new ArrayList<>()).add(player);
+        }
+        for (List<Player> players : groups.values()) {
+            MessageDispatcher.dispatch(players, lang.getList(players.get(0), key, placeholders));
+        }
+        lang.getList(key, placeholders).forEach(Bukkit.getConsoleSender()::sendMessage);
+    }
+
+    private record RenderGroup(String locale, List<Object> viewerValues) {}
+
+    private static Object[] concat(Object[] shared, List<Object> viewerValues) {
+        if (viewerValues.isEmpty()) return shared;
+        Object[] args = Arrays.copyOf(shared, shared.length + viewerValues.size());
+        for (int i = 0; i < viewerValues.size(); i++) args[shared.length + i] = viewerValues.get(i);
+        return args;
     }
 
     /**
@@ -123,8 +185,8 @@ public class MessageHelper {
     public static void sendToggle(@NotNull Player sender, @NotNull String labelKey, boolean active) {
         String statusKey = active ? "system.status_on" : "system.status_off";
         send(sender, "system.toggle_format",
-                "label", lang.getRaw(labelKey),
-                "status", lang.getRaw(statusKey)
+                "label", lang.getRaw(sender, labelKey),
+                "status", lang.getRaw(sender, statusKey)
         );
     }
 
@@ -137,8 +199,8 @@ public class MessageHelper {
     public static void sendActionbarToggle(@NotNull Player sender, @NotNull String labelKey, boolean active) {
         String statusKey = active ? "system.status_on" : "system.status_off";
         sendActionbar(sender, "system.toggle_format",
-                "label", lang.getRaw(labelKey),
-                "status", lang.getRaw(statusKey)
+                "label", lang.getRaw(sender, labelKey),
+                "status", lang.getRaw(sender, statusKey)
         );
     }
 
@@ -201,11 +263,11 @@ public class MessageHelper {
      * @param replacements
      */
     public static void sendActionbar(Player player, String key, String... replacements) {
-        String message = getRaw(key);
+        String message = lang.getRaw(player, key);
         for (int i = 0; i < replacements.length; i += 2) {
             message = message.replace("<" + replacements[i] + ">", replacements[i + 1]);
         }
-        player.sendActionBar(MiniMessage.miniMessage().deserialize(message));
+        showActionbar(player, MiniMessage.miniMessage().deserialize(message));
     }
 
     /**
@@ -214,7 +276,13 @@ public class MessageHelper {
      * @param message
      */
     public static void sendRawActionbar(Player player, String message) {
-        player.sendActionBar(MiniMessage.miniMessage().deserialize(message));
+        showActionbar(player, MiniMessage.miniMessage().deserialize(message));
+    }
+
+    private static void showActionbar(Player player, Component message) {
+        ActionbarManager actionbars = RedJuluLib.getActionbarManager();
+        if (actionbars != null) actionbars.show(player, message);
+        else player.sendActionBar(message);
     }
 
     /**
@@ -0,0 +1,175 @@
+package de.redjulu.lib.actionbar;
+
+import net.kyori.adventure.text.Component;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Coalesces action bar messages per player.
+ * Every message is posted to a named channel with a priority and a duration. Once per tick the manager picks the
+ * highest priority active channel of each player and sends it only if it changed or the client display is about to fade.
+ * This way a player receives at most one action bar packet per tick, no matter how many sources post to it.
+ */
+public class ActionbarManager implements Listener {
+
+    /** Channel used by MessageHelper for translated action bar messages. */
+    public static final String CHANNEL_MESSAGE = "message";
+    /** Priority used by MessageHelper, above background displays like item cooldowns. */
+    public static final int PRIORITY_MESSAGE = 10;
+    /** Ticks a one-shot message stays active (the vanilla client displays an action bar for about 60 ticks). */
+    public static final long DEFAULT_DURATION = 60L;
+
+    /** Ticks the vanilla client keeps an action bar on screen. */
+    private static final long CLIENT_DISPLAY_TICKS = 60L;
+    private static final long RESEND_AFTER = 50L;
+
+    private final Plugin plugin;
+    private final Map<UUID, PlayerBar> bars = new ConcurrentHashMap<>();
+    private BukkitTask task;
+    private volatile long tick = 0;
+
+    private record Entry(Component message, int priority, long expiresAt, long postedAt) {}
+
+    private static final class PlayerBar {
+        private final Map<String, Entry> channels = new HashMap<>();
+        private Component lastSent;
+        private long lastSentTick = Long.MIN_VALUE;
+        private boolean removed;
+    }
+
+    public ActionbarManager(Plugin plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Posts a message to a channel of a player. Replaces the previous message of that channel.
+     *
+     * @param player The player.
+     * @param channel The channel name (e.g. "cooldown", "message").
+     * @param message The message to display.
+     * @param priority Higher priorities hide lower ones while active.
+     * @param durationTicks How long the message stays active.
+     */
+    public void show(@NotNull Player player, @NotNull String channel, @NotNull Component message, int priority, long durationTicks) {
+        while (true) {
+            PlayerBar bar = bars.computeIfAbsent(player.getUniqueId(), k -> new PlayerBar());
+            synchronized (bar) {
+                if (bar.removed) continue;
+                long now = tick;
+                bar.channels.put(channel, new Entry(message, priority, now + Math.max(1L, durationTicks), now));
+            }
+            break;
+        }
+        ensureRunning();
+    }
+
+    /**
+     * Posts a one-shot message to the default message channel.
+     *
+     * @param player The player.
+     * @param message The message to display.
+     */
+    public void show(@NotNull Player player, @NotNull Component message) {
+        show(player, CHANNEL_MESSAGE, message, PRIORITY_MESSAGE, DEFAULT_DURATION);
+    }
+
+    /**
+     * Removes a channel of a player. The next lower channel is shown on the next tick.
+     *
+     * @param player The player.
+     * @param channel The channel name.
+     */
+    public void clear(@NotNull Player player, @NotNull String channel) {
+        PlayerBar bar = bars.get(player.getUniqueId());
+        if (bar == null) return;
+        synchronized (bar) {
+            bar.channels.remove(channel);
+        }
+    }
+
+    /**
+     * Removes all channels of a player.
+     *
+     * @param player The player.
+     */
+    public void cleanup(@NotNull Player player) {
+        bars.remove(player.getUniqueId());
+    }
+
+    @EventHandler
+    public void onQuit(PlayerQuitEvent event) {
+        cleanup(event.getPlayer());
+    }
+
+    private void ensureRunning() {
+        if (task != null) return;
+        if (!Bukkit.isPrimaryThread()) {
+            Bukkit.getScheduler().runTask(plugin, this::ensureRunning);
+            return;
+        }
+        task = Bukkit.getScheduler().runTaskTimer(plugin, this::run, 1L, 1L);
+    }
+
+    private void run() {
+        if (bars.isEmpty()) {
+            task.cancel();
+            task = null;
+            return;
+        }
+        long now = ++tick;
+        Iterator<Map.Entry<UUID, PlayerBar>> iterator = bars.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<UUID, PlayerBar> mapEntry = iterator.next();
+            Player player = Bukkit.getPlayer(mapEntry.getKey());
+            if (player == null) {
+                iterator.remove();
+                continue;
+            }
+
+            PlayerBar bar = mapEntry.getValue();
+            Component message;
+            synchronized (bar) {
+                Entry top = null;
+                Iterator<Entry> entries = bar.channels.values().iterator();
+                while (entries.hasNext()) {
+                    Entry entry = entries.next();
+                    if (entry.expiresAt() <= now) {
+                        entries.remove();
+                        continue;
+                    }
+                    if (top == null || entry.priority() > top.priority()
+                            || (entry.priority() == top.priority() && entry.postedAt() > top.postedAt())) {
+                        top = entry;
+                    }
+                }
+                if (top == null) {
+                    // Nothing left to show; the client fades the last message on its own.
+                    bar.removed = true;
+                    iterator.remove();
+                    continue;
+                }
+                if (top.message().equals(bar.lastSent)) {
+                    long sinceSent = now - bar.lastSentTick;
+                    // Only refresh if the entry outlives what the client still shows of the last packet.
+                    if (sinceSent < RESEND_AFTER || top.expiresAt() - now <= CLIENT_DISPLAY_TICKS - sinceSent) continue;
+                }
+                message = top.message();
+                bar.lastSent = message;
+                bar.lastSentTick = now;
+            }
+            player.sendActionBar(message);
+        }
+    }
+}
@@ -1,7 +1,6 @@
 package de.redjulu.lib.gui;
 
 import de.redjulu.RedJuluLib;
-import de.redjulu.lib.ItemBuilder;
 import de.redjulu.lib.MessageHelper;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.minimessage.MiniMessage;
@@ -10,16 +9,22 @@ import org.bukkit.Material;
 import org.bukkit.NamespacedKey;
 import org.bukkit.Sound;
 import org.bukkit.persistence.PersistentDataType;
+import org.bukkit.entity.HumanEntity;
 import org.bukkit.entity.Player;
 import org.bukkit.event.inventory.ClickType;
 import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.InventoryHolder;
 import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.BiConsumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.logging.Level;
 
 /**
  * The core foundation for all Custom GUIs.
@@ -30,19 +35,45 @@ import java.util.function.Predicate;
  */
 public abstract class BaseGUI<T, C extends Enum<C>> implements InventoryHolder {
 
-    private static final Map<UUID, BaseGUI<?, ?>> HISTORY = new HashMap<>();
+    private static final byte FLAG_CONTENT = 1;
+    private static final byte FLAG_INTERACTABLE = 1 << 1;
+    private static final byte FLAG_IGNORED = 1 << 2;
+    private static final byte FLAG_PLACEHOLDER = 1 << 3;
+    private static final byte FLAG_PRIORITY = 1 << 4;
+    private static final byte FLAG_EXPENSIVE = 1 << 5;
 
     protected final Inventory inventory;
     protected final int size;
-    protected final List<Integer> contentSlots = new ArrayList<>();
+    private final int[] contentSlotIndexes;
+    /** @deprecated Read-only view kept for subclasses; use {@link #getContentSlots()}. */
+    @Deprecated
+    protected final List<Integer> contentSlots;
+    /** @deprecated Read-only view kept for subclasses; use {@link #getInteractableSlots()} or setInteractable(). */
+    @Deprecated
+    protected final Set<Integer> interactableSlots = new FlagSlots(FLAG_INTERACTABLE);
+    /** @deprecated Read-only view kept for subclasses; use {@link #getIgnoredSlots()} or setIgnored(). */
+    @Deprecated
+    protected final Set<Integer> ignoredSlots = new FlagSlots(FLAG_IGNORED);
+    /** @deprecated Read-only view kept for subclasses; use {@link #getPlaceholderSlots()} or setPlaceholder(). */
+    @Deprecated
+    protected final Set<Integer> placeholderSlots = new FlagSlots(FLAG_PLACEHOLDER);
+    /** @deprecated Read-only view kept for subclasses; use {@link #getPrioritySlots()} or setPriority(). */
+    @Deprecated
+    protected final Set<Integer> prioritySlots = new FlagSlots(FLAG_PRIORITY);
+    /** @deprecated Read-only view kept for subclasses; use {@link #getPlaceholderItems()} or getPlaceholderForSlot(). */
+    @Deprecated
+    protected final Map<Integer, ItemStack> placeholderItems = new PlaceholderItems();
     protected final Map<Integer, List<ItemStack>> animatedSlots = new HashMap<>();
+    private final long[] frameIntervals;
+    private long animationPeriod = 0;
+    private final BiConsumer<Player, ClickType>[] clickActions;
     protected final Map<Integer, ItemStack> activeItems = new HashMap<>();
-    protected final Set<Integer> interactableSlots = new HashSet<>();
-    protected final Set<Integer> ignoredSlots = new HashSet<>();
-    protected final Set<Integer> placeholderSlots = new HashSet<>();
-    protected final Set<Integer> prioritySlots = new HashSet<>();
-    protected final Map<Integer, ItemStack> placeholderItems = new HashMap<>();
+    private final byte[] slotFlags;
+    private final ItemStack[] placeholderStacks;
     private final List<DynamicButtonInfo> dynamicButtons = new ArrayList<>();
+    private final List<ViewerItemInfo> viewerItems = new ArrayList<>();
+    private final Map<UUID, Inventory> viewerInventories = new HashMap<>();
+    private final Component title;
 
     protected Sound openSound = Sound.BLOCK_CHEST_OPEN;
     protected Sound clickSound = Sound.UI_BUTTON_CLICK;
@@ -53,25 +84,57 @@ public abstract class BaseGUI<T, C extends Enum<C>> implements InventoryHolder {
     protected int page = 0;
     protected final int pageSize;
 
+    private List<? extends Function<? super T, String>> searchExtractors = List.of();
+    private Comparator<? super T> sorter;
+    private String searchQuery = "";
+    private List<T> viewItems;
+    private List<T> viewSource;
+    private int viewSize = -1;
+    private GUISearchIndex<T> searchIndex;
+    private List<T> indexedSource;
+    private int indexedSize = -1;
+    private int viewGeneration = 0;
+    private Supplier<? extends BaseGUI<T, C>> restoreFactory;
+    private boolean releaseOnClose = false;
+
     private boolean switching = false;
     private boolean dialogOpen = false;
+    private final Set<UUID> switchingViewers = new HashSet<>();
+    private final Set<UUID> dialogViewers = new HashSet<>();
+    private boolean shared = false;
+    private boolean composed = false;
 
+    @SuppressWarnings("unchecked")
     public BaseGUI(int rows, String titleKey, int t, int b, int l, int r, C defaultCategory) {
         this.size = rows * 9;
         this.currentCategory = defaultCategory;
 
-        Component title = RedJuluLib.getLang().has(titleKey)
+        this.title = RedJuluLib.getLang().has(titleKey)
                 ? RedJuluLib.getLang().get(titleKey)
                 : MiniMessage.miniMessage().deserialize(titleKey);
 
         this.inventory = Bukkit.createInventory(this, size, title);
+        this.frameIntervals = new long[size];
+        this.clickActions = new BiConsumer[size];
+        this.slotFlags = new byte[size];
+        this.placeholderStacks = new ItemStack[size];
 
+        int contentRows = Math.max(0, rows - b - t);
+        int contentCols = Math.max(0, 9 - r - l);
+        this.contentSlotIndexes = new int[contentRows * contentCols];
+        int index = 0;
         for (int row = t; row < (rows - b); row++) {
             for (int col = l; col < (9 - r); col++) {
-                contentSlots.add(col + (row * 9));
+                int slot = col + (row * 9);
+                contentSlotIndexes[index++] = slot;
+                slotFlags[slot] |= FLAG_CONTENT;
             }
         }
-        this.pageSize = contentSlots.size();
+        this.pageSize = contentSlotIndexes.length;
+        this.contentSlots = new AbstractList<>() {
+            @Override public Integer get(int index) { return contentSlotIndexes[index]; }
+            @Override public int size() { return contentSlotIndexes.length; }
+        };
     }
 
     /**
@@ -79,7 +142,7 @@ public abstract class BaseGUI<T, C extends Enum<C>> implements InventoryHolder {
      * @param uuid Player's UUID.
      */
     public static void clearHistory(UUID uuid) {
-        HISTORY.remove(uuid);
+        GUIHistory.clear(uuid);
     }
 
     /**
@@ -88,64 +151,210 @@ public abstract class BaseGUI<T, C extends Enum<C>> implements InventoryHolder {
      * @param saveToHistory Whether to store previous GUI.
      */
     public void open(Player player, boolean saveToHistory) {
+        releaseOnClose = false;
         switching = false;
         dialogOpen = false;
+        switchingViewers.remove(player.getUniqueId());
+        dialogViewers.remove(player.getUniqueId());
+        GUIClickLimiter.resetDebounce(player.getUniqueId());
         if (saveToHistory) {
             InventoryHolder holder = player.getOpenInventory().getTopInventory().getHolder();
             if (holder instanceof BaseGUI<?, ?> current) {
-                HISTORY.put(player.getUniqueId(), current);
+                GUIHistory.push(player.getUniqueId(), current.createHistoryEntry());
             }
         }
-        update(player);
-        if (!player.getOpenInventory().getTopInventory().equals(inventory)) {
-            player.openInventory(inventory);
+        Inventory target;
+        if (shared) {
+            if (!composed) update(player);
+            target = viewerInventories.get(player.getUniqueId());
+            if (target == null) {
+                target = Bukkit.createInventory(this, size, title);
+                viewerInventories.put(player.getUniqueId(), target);
+                renderFor(player, target, inventory.getContents());
+            }
+        } else {
+            update(player);
+            target = inventory;
+        }
+        if (!player.getOpenInventory().getTopInventory().equals(target)) {
+            player.openInventory(target);
             if (openSound != null) player.playSound(player.getLocation(), openSound, 0.5f, 1.0f);
         }
     }
 
     /**
-     * Rebuilds the GUI content.
+     * Enables the shared mode: the GUI is composed once into a base inventory which is copied to every viewer.
+     * Only dynamic buttons (setDynamicButton), viewer items (setViewerItem) and the pagination arrows are rendered per viewer;
+     * everything else is composed with the language of the player that triggered the update, so it has to be
+     * language-neutral. Call from the constructor of the subclass.
+     * Shared GUIs are meant for display menus; slots are read from the base inventory, so input slots stay per viewer
+     * but are not visible to getActiveItem().
+     */
+    protected void setShared(boolean shared) {
+        this.shared = shared;
+    }
+
+    /**
+     * Whether this GUI is viewed by multiple players through one composed base inventory.
+     */
+    public boolean isShared() {
+        return shared;
+    }
+
+    /**
+     * Rebuilds the GUI content. In shared mode, the base is composed once and fanned out to all viewers.
      * @param player Target player.
      */
     public void update(Player player) {
-        if(dialogOpen) return;
+        if(isDialogOpen(player)) return;
 
-        GUIListener.clearButtons(inventory);
+        long start = GUIProfiler.start();
+        clearClickActions();
         animatedSlots.clear();
-        interactableSlots.clear();
-        placeholderSlots.clear();
-        prioritySlots.clear();
-        placeholderItems.clear();
-        ignoredSlots.clear();
+        animationPeriod = 0;
+        Arrays.fill(frameIntervals, 0L);
+        for (int i = 0; i < size; i++) slotFlags[i] &= FLAG_CONTENT;
+        Arrays.fill(placeholderStacks, null);
         dynamicButtons.clear();
+        viewerItems.clear();
+        long composeStart = GUIProfiler.start();
         compose(player);
+        GUIProfiler.record(getClass(), GUIProfiler.Phase.COMPOSE, composeStart);
         tickAnimations(0);
+        composed = true;
+
+        if (shared && !viewerInventories.isEmpty()) {
+            ItemStack[] contents = inventory.getContents();
+            for (Map.Entry<UUID, Inventory> entry : viewerInventories.entrySet()) {
+                Player viewer = Bukkit.getPlayer(entry.getKey());
+                if (viewer != null) renderFor(viewer, entry.getValue(), contents);
+            }
+        }
+
+        if (animatedSlots.isEmpty()) GUIAnimationTask.unregister(this);
+        else GUIAnimationTask.register(this);
+        GUIProfiler.record(getClass(), GUIProfiler.Phase.UPDATE, start);
+    }
+
+    /**
+     * Copies the composed base contents into a viewer inventory and applies the viewer-dependent slots.
+     * Items the viewer placed into interactable or placeholder slots are kept.
+     */
+    private void renderFor(Player viewer, Inventory target, ItemStack[] contents) {
+        for (int i = 0; i < size; i++) {
+            if ((slotFlags[i] & (FLAG_INTERACTABLE | FLAG_PLACEHOLDER)) != 0) {
+                ItemStack current = target.getItem(i);
+                if (current != null && current.getType() != Material.AIR && !isPlaceholderItem(current)) continue;
+            }
+            target.setItem(i, contents[i]);
+        }
+        updateDynamicButtons(viewer);
+    }
+
+    /**
+     * Returns the inventory the player sees: the own viewer inventory in shared mode, otherwise the GUI inventory.
+     */
+    public @NotNull Inventory getInventory(Player player) {
+        if (!shared) return inventory;
+        Inventory viewerInventory = viewerInventories.get(player.getUniqueId());
+        return viewerInventory != null ? viewerInventory : inventory;
+    }
+
+    /**
+     * Sets an item in the GUI inventory and, in shared mode, in every viewer inventory.
+     */
+    private void setItemForAll(int slot, ItemStack item) {
+        inventory.setItem(slot, item);
+        if (!shared) return;
+        for (Inventory viewerInventory : viewerInventories.values()) viewerInventory.setItem(slot, item);
+    }
+
+    /**
+     * Whether any player currently views this GUI.
+     */
+    public boolean hasViewers() {
+        if (!shared) return !inventory.getViewers().isEmpty();
+        for (Inventory viewerInventory : viewerInventories.values()) {
+            if (!viewerInventory.getViewers().isEmpty()) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Called by the GUIListener when a player closes this GUI. Releases actions and animations once nobody views it anymore.
+     */
+    void handleClose(HumanEntity player) {
+        // A switching player comes back to this GUI, so their input slots have to survive the close.
+        boolean switchingAway = isSwitching(player);
+        switchingViewers.remove(player.getUniqueId());
+        if (shared && !switchingAway) viewerInventories.remove(player.getUniqueId());
+        for (HumanEntity viewer : inventory.getViewers()) {
+            if (!viewer.equals(player)) return;
+        }
+        if (shared && hasViewers()) return;
+
+        clearClickActions();
+        GUIAnimationTask.unregister(this);
+        composed = false;
+        if (releaseOnClose && !switchingAway) release();
+    }
+
+    /**
+     * Drops the rendered state of a GUI that is kept as instance in the history. It is composed again when reopened.
+     * Active items and the sorted/searched view are kept, so back() returns to the same input and page.
+     */
+    private void release() {
+        releaseOnClose = false;
+        inventory.clear();
+        viewerInventories.clear();
+        animatedSlots.clear();
+        animationPeriod = 0;
+        dynamicButtons.clear();
+        viewerItems.clear();
+        Arrays.fill(placeholderStacks, null);
+        searchIndex = null;
+        indexedSource = null;
+        indexedSize = -1;
     }
 
     /**
      * Re-applies dynamic button display (e.g. after placeholder slot content changed). Call from listener.
      */
     public void updateDynamicButtons(Player player) {
+        Inventory target = getInventory(player);
         for (DynamicButtonInfo info : dynamicButtons) {
-            inventory.setItem(info.slot, info.condition.test(player) ? info.activeItem : info.inactiveItem);
+            target.setItem(info.slot, info.condition.test(player) ? info.activeItem : info.inactiveItem);
+        }
+        for (ViewerItemInfo info : viewerItems) {
+            target.setItem(info.slot, info.item.apply(player));
         }
     }
 
     private record DynamicButtonInfo(int slot, Predicate<Player> condition, ItemStack activeItem, ItemStack inactiveItem) {}
 
+    private record ViewerItemInfo(int slot, Function<Player, ItemStack> item) {}
+
+    /**
+     * Sets an item that is built per viewer (e.g. a translated display item). Without shared mode it is built for the given player only.
+     * @param player The player for whom the GUI is composed.
+     */
+    protected void setViewerItem(Player player, int slot, Function<Player, ItemStack> item) {
+        if (shared) viewerItems.add(new ViewerItemInfo(slot, item));
+        inventory.setItem(slot, item.apply(player));
+    }
+
     /**
      * Marks a slot as interactable (e.g. for item input); clicks are not cancelled for these slots.
      */
     protected void setInteractable(int slot, boolean interactable) {
-        if (interactable) interactableSlots.add(slot);
-        else interactableSlots.remove(slot);
+        setFlag(slot, FLAG_INTERACTABLE, interactable);
     }
 
     /**
      * Marks a slot to be skipped when using fillBackground with skipIgnoredSlots.
      */
     protected void setIgnored(int slot) {
-        ignoredSlots.add(slot);
+        setFlag(slot, FLAG_IGNORED, true);
     }
 
     /**
@@ -160,8 +369,8 @@ public abstract class BaseGUI<T, C extends Enum<C>> implements InventoryHolder {
         ItemStack marked = markAsPlaceholderItem(current);
         inventory.setItem(slot, marked);
 
-        placeholderSlots.add(slot);
-        placeholderItems.put(slot, marked.clone());
+        setFlag(slot, FLAG_PLACEHOLDER, true);
+        placeholderStacks[slot] = marked.clone();
     }
 
 
@@ -171,8 +380,8 @@ public abstract class BaseGUI<T, C extends Enum<C>> implements InventoryHolder {
      */
     protected void registerPlaceholderSlot(int slot, @NotNull ItemStack placeholderItem) {
         ItemStack marked = markAsPlaceholderItem(placeholderItem);
-        placeholderSlots.add(slot);
-        placeholderItems.put(slot, marked.clone());
+        setFlag(slot, FLAG_PLACEHOLDER, true);
+        placeholderStacks[slot] = marked.clone();
     }
 
     private ItemStack markAsPlaceholderItem(ItemStack placeholderItem) {
@@ -189,7 +398,31 @@ public abstract class BaseGUI<T, C extends Enum<C>> implements InventoryHolder {
      * Gives this placeholder slot priority when shift-clicking (e.g. item goes here first).
      */
     protected void setPriority(int slot) {
-        prioritySlots.add(slot);
+        setFlag(slot, FLAG_PRIORITY, true);
+    }
+
+    /**
+     * Marks the action of a slot as expensive (e.g. full update or filestore I/O); it gets stricter click limits.
+     */
+    protected void setExpensive(int slot) {
+        setFlag(slot, FLAG_EXPENSIVE, true);
+    }
+
+    /**
+     * Returns whether the action of a slot was marked as expensive.
+     */
+    public boolean isExpensiveSlot(int slot) {
+        return hasFlag(slot, FLAG_EXPENSIVE);
+    }
+
+    private void setFlag(int slot, byte flag, boolean value) {
+        if (slot < 0 || slot >= size) return;
+        if (value) slotFlags[slot] |= flag;
+        else slotFlags[slot] &= (byte) ~flag;
+    }
+
+    private boolean hasFlag(int slot, byte flag) {
+        return slot >= 0 && slot < size && (slotFlags[slot] & flag) != 0;
     }
 
     private static NamespacedKey placeholderKey() {
@@ -208,23 +441,32 @@ public abstract class BaseGUI<T, C extends Enum<C>> implements InventoryHolder {
      * Returns the stored placeholder item for a slot (to restore when user takes their item out).
      */
     public ItemStack getPlaceholderForSlot(int slot) {
-        return placeholderItems.get(slot);
+        return slot >= 0 && slot < size ? placeholderStacks[slot] : null;
     }
 
     /**
      * Returns whether the slot has shift priority.
      */
     public boolean isPrioritySlot(int slot) {
-        return prioritySlots.contains(slot);
+        return hasFlag(slot, FLAG_PRIORITY);
     }
 
     /**
      * Set true before opening a menu (e.g. AnvilInput) so onClose does not return items to the player.
+     * Applies to all viewers; use setSwitching(Player, boolean) for shared GUIs.
      */
     protected void setSwitching(boolean switching) {
         this.switching = switching;
     }
 
+    /**
+     * Set true before opening a menu for one viewer so onClose does not return their items.
+     */
+    protected void setSwitching(Player player, boolean switching) {
+        if (switching) switchingViewers.add(player.getUniqueId());
+        else switchingViewers.remove(player.getUniqueId());
+    }
+
     /**
      * Whether the GUI is currently switching to another menu (items will not be returned on close).
      */
@@ -232,17 +474,37 @@ public abstract class BaseGUI<T, C extends Enum<C>> implements InventoryHolder {
         return switching;
     }
 
+    /**
+     * Whether the GUI is currently switching to another menu for this viewer.
+     */
+    public boolean isSwitching(HumanEntity player) {
+        return switching || switchingViewers.contains(player.getUniqueId());
+    }
+
     /**
      * Setzt, ob gerade ein Paper-Dialog offen ist, um Schließen-Logik zu unterdrücken.
+     * Gilt für alle Viewer; für geteilte GUIs setDialogOpen(Player, boolean) verwenden.
      */
     public void setDialogOpen(boolean open) {
         this.dialogOpen = open;
     }
 
+    /**
+     * Setzt, ob für diesen Viewer gerade ein Paper-Dialog offen ist.
+     */
+    public void setDialogOpen(Player player, boolean open) {
+        if (open) dialogViewers.add(player.getUniqueId());
+        else dialogViewers.remove(player.getUniqueId());
+    }
+
     public boolean isDialogOpen() {
         return dialogOpen;
     }
 
+    public boolean isDialogOpen(HumanEntity player) {
+        return dialogOpen || dialogViewers.contains(player.getUniqueId());
+    }
+
     /**
      * Sets an item in a slot without registering a click action.
      */
@@ -261,12 +523,12 @@ public abstract class BaseGUI<T, C extends Enum<C>> implements InventoryHolder {
      * Returns the active/custom item for a slot. For placeholder slots: inventory first, then activeItems (e.g. after anvil).
      */
     protected ItemStack getActiveItem(int slot) {
-        if (placeholderSlots.contains(slot)) {
+        if (isPlaceholderSlot(slot)) {
             ItemStack in = inventory.getItem(slot);
             if (in != null && in.getType() != Material.AIR && !isPlaceholderItem(in)) return in;
             return activeItems.get(slot);
         }
-        if (interactableSlots.contains(slot)) {
+        if (isInteractableSlot(slot)) {
             ItemStack in = inventory.getItem(slot);
             if (in != null && in.getType() != Material.AIR) return in;
         }
@@ -280,7 +542,7 @@ public abstract class BaseGUI<T, C extends Enum<C>> implements InventoryHolder {
     protected void setDynamicButton(Player player, int slot, Predicate<Player> condition, ItemStack activeItem, ItemStack inactiveItem, BiConsumer<Player, ClickType> action) {
         dynamicButtons.add(new DynamicButtonInfo(slot, condition, activeItem, inactiveItem));
         inventory.setItem(slot, condition.test(player) ? activeItem : inactiveItem);
-        GUIListener.registerButton(inventory, slot, (p, click) -> {
+        setClickAction(slot, (p, click) -> {
             if (!condition.test(p)) {
                 MessageHelper.playError(p);
                 return;
@@ -306,15 +568,67 @@ public abstract class BaseGUI<T, C extends Enum<C>> implements InventoryHolder {
      * @param player Target player.
      */
     protected void back(Player player) {
-        BaseGUI<?, ?> last = HISTORY.remove(player.getUniqueId());
-        if (last != null) {
-            last.open(player, false);
+        GUIHistory.Entry entry = GUIHistory.pop(player.getUniqueId());
+        if (entry != null) {
+            BaseGUI<?, ?> last = entry.factory().get();
+            if (last.restore(entry)) {
+                // The view has to be rebuilt first, otherwise the page would index into the unfiltered items.
+                last.refreshView(player, entry.page()).thenRun(() -> {
+                    if (player.isOnline()) last.open(player, false);
+                });
+            } else {
+                last.open(player, false);
+            }
             if (backSound != null) player.playSound(player.getLocation(), backSound, 0.5f, 1.2f);
         } else {
             player.closeInventory();
         }
     }
 
+    /**
+     * Sets the factory that recreates this GUI for the navigation history. Call from the constructor of the subclass,
+     * e.g. {@code setRestoreFactory(() -> new ShopGUI(owner))}; only the factory plus page and category are kept.
+     */
+    protected void setRestoreFactory(@Nullable Supplier<? extends BaseGUI<T, C>> factory) {
+        this.restoreFactory = factory;
+    }
+
+    /**
+     * Creates a fresh instance of this GUI for the navigation history.
+     * Returns the factory set with setRestoreFactory() unless overridden.
+     * @return A factory for this GUI, or null to keep this instance.
+     */
+    protected @Nullable Supplier<? extends BaseGUI<T, C>> createRestoreFactory() {
+        return restoreFactory;
+    }
+
+    private GUIHistory.Entry createHistoryEntry() {
+        Supplier<? extends BaseGUI<?, ?>> factory = createRestoreFactory();
+        if (factory == null) {
+            // Without a factory the instance itself is kept, so its contents are dropped once it is closed.
+            releaseOnClose = true;
+            factory = () -> this;
+        }
+        return new GUIHistory.Entry(factory, page, currentCategory, searchQuery, sorter, System.currentTimeMillis());
+    }
+
+    /**
+     * Applies page, category, search query and sort order of a history entry.
+     * @return Whether the sorted/searched view has to be rebuilt before the page can be shown.
+     */
+    @SuppressWarnings("unchecked")
+    private boolean restore(GUIHistory.Entry entry) {
+        this.page = entry.page();
+        Enum<?> category = entry.category();
+        if (category != null && (currentCategory == null || currentCategory.getDeclaringClass() == category.getDeclaringClass())) {
+            this.currentCategory = (C) category;
+        }
+        this.searchQuery = entry.searchQuery();
+        this.sorter = (Comparator<? super T>) entry.sorter();
+        boolean needsView = !searchQuery.isEmpty() || sorter != null;
+        return needsView && (viewItems == null || viewSource != allItems || viewSize != allItems.size());
+    }
+
     /**
      * Registers a button in the GUI.
      * @param slot Target slot.
@@ -323,23 +637,72 @@ public abstract class BaseGUI<T, C extends Enum<C>> implements InventoryHolder {
      */
     protected void setButton(int slot, ItemStack item, BiConsumer<Player, ClickType> action) {
         inventory.setItem(slot, item);
-        GUIListener.registerButton(inventory, slot, (p, click) -> {
+        setClickAction(slot, (p, click) -> {
             if (clickSound != null) p.playSound(p.getLocation(), clickSound, 0.5f, 1.0f);
             action.accept(p, click);
         });
     }
 
     /**
-     * Ticks animations.
+     * Stores the click action for a slot. Slots outside the inventory are ignored.
+     */
+    void setClickAction(int slot, BiConsumer<Player, ClickType> action) {
+        if (slot >= 0 && slot < clickActions.length) clickActions[slot] = action;
+    }
+
+    /**
+     * Returns the click action of a slot or null if the slot has none.
+     */
+    BiConsumer<Player, ClickType> getClickAction(int slot) {
+        return slot >= 0 && slot < clickActions.length ? clickActions[slot] : null;
+    }
+
+    /**
+     * Removes all registered click actions.
+     */
+    void clearClickActions() {
+        Arrays.fill(clickActions, null);
+    }
+
+    /**
+     * Registers a button in the GUI.
+     * @param slot Target slot.
+     * @param item ItemStack.
+     * @param action Click logic.
+     * @param expensive Whether the action is expensive (stricter click limits).
+     */
+    protected void setButton(int slot, ItemStack item, BiConsumer<Player, ClickType> action, boolean expensive) {
+        setButton(slot, item, action);
+        if (expensive) setExpensive(slot);
+    }
+
+    /**
+     * Ticks animations. A slot only advances when the tick hits its frame interval.
      * @param tick Current animation tick.
      */
     public void tickAnimations(long tick) {
         if (animatedSlots.isEmpty()) return;
+        long start = GUIProfiler.start();
+        long defaultInterval = GUIAnimationTask.getDefaultInterval();
+        boolean changed = false;
         for (Map.Entry<Integer, List<ItemStack>> entry : animatedSlots.entrySet()) {
             List<ItemStack> frames = entry.getValue();
             if (frames == null || frames.isEmpty()) continue;
-            inventory.setItem(entry.getKey(), frames.get((int) (tick % frames.size())));
+            int slot = entry.getKey();
+            long interval = frameIntervals[slot] > 0 ? frameIntervals[slot] : defaultInterval;
+            if (tick % interval != 0) continue;
+            setItemForAll(slot, frames.get((int) ((tick / interval) % frames.size())));
+            changed = true;
         }
+        if (changed) GUIProfiler.record(getClass(), GUIProfiler.Phase.ANIMATION, start);
+    }
+
+    /**
+     * Returns the greatest common divisor of the frame intervals of all animated slots, or 0 if nothing is animated.
+     * Kept up to date by setAnimatedItem(); the animation task runs at the GCD of these periods.
+     */
+    long getAnimationPeriod() {
+        return animationPeriod;
     }
 
     /**
@@ -348,14 +711,168 @@ public abstract class BaseGUI<T, C extends Enum<C>> implements InventoryHolder {
      * @return true if the slot was marked with setInteractable(slot, true).
      */
     public boolean isInteractableSlot(int slot) {
-        return interactableSlots.contains(slot);
+        return hasFlag(slot, FLAG_INTERACTABLE);
     }
 
     /**
      * Returns whether the slot is a placeholder (display-only, no take/action).
      */
     public boolean isPlaceholderSlot(int slot) {
-        return placeholderSlots.contains(slot);
+        return hasFlag(slot, FLAG_PLACEHOLDER);
+    }
+
+    /**
+     * Returns whether the slot belongs to the content area.
+     */
+    public boolean isContentSlot(int slot) {
+        return hasFlag(slot, FLAG_CONTENT);
+    }
+
+    /**
+     * Returns whether the slot was marked with setIgnored().
+     */
+    public boolean isIgnoredSlot(int slot) {
+        return hasFlag(slot, FLAG_IGNORED);
+    }
+
+    /**
+     * Returns the slots of the content area in page order as an unmodifiable list.
+     */
+    public @NotNull List<Integer> getContentSlots() {
+        return contentSlots;
+    }
+
+    /**
+     * Returns the slots marked with setInteractable() as an unmodifiable, live view.
+     */
+    public @NotNull Set<Integer> getInteractableSlots() {
+        return interactableSlots;
+    }
+
+    /**
+     * Returns the slots marked with setIgnored() as an unmodifiable, live view.
+     */
+    public @NotNull Set<Integer> getIgnoredSlots() {
+        return ignoredSlots;
+    }
+
+    /**
+     * Returns the placeholder slots as an unmodifiable, live view.
+     */
+    public @NotNull Set<Integer> getPlaceholderSlots() {
+        return placeholderSlots;
+    }
+
+    /**
+     * Returns the slots with shift priority as an unmodifiable, live view.
+     */
+    public @NotNull Set<Integer> getPrioritySlots() {
+        return prioritySlots;
+    }
+
+    /**
+     * Returns the stored placeholder items by slot as an unmodifiable, live view.
+     */
+    public @NotNull Map<Integer, ItemStack> getPlaceholderItems() {
+        return placeholderItems;
+    }
+
+    /**
+     * Read-only map of the stored placeholder items, backed by the placeholder array.
+     */
+    private final class PlaceholderItems extends AbstractMap<Integer, ItemStack> {
+        @Override
+        public ItemStack get(Object key) {
+            return key instanceof Integer slot ? getPlaceholderForSlot(slot) : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return get(key) != null;
+        }
+
+        @Override
+        public @NotNull Set<Entry<Integer, ItemStack>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public int size() {
+                    int count = 0;
+                    for (ItemStack item : placeholderStacks) if (item != null) count++;
+                    return count;
+                }
+
+                @Override
+                public @NotNull Iterator<Entry<Integer, ItemStack>> iterator() {
+                    Iterator<Integer> slots = placeholderSlots.iterator();
+                    return new Iterator<>() {
+                        private int next = advance();
+
+                        private int advance() {
+                            while (slots.hasNext()) {
+                                int slot = slots.next();
+                                if (placeholderStacks[slot] != null) return slot;
+                            }
+                            return -1;
+                        }
+
+                        @Override public boolean hasNext() { return next >= 0; }
+
+                        @Override
+                        public Entry<Integer, ItemStack> next() {
+                            if (next < 0) throw new NoSuchElementException();
+                            int slot = next;
+                            next = advance();
+                            return Map.entry(slot, placeholderStacks[slot]);
+                        }
+                    };
+                }
+            };
+        }
+    }
+
+    /**
+     * Read-only set of all slots that carry a flag, backed by the slot flags.
+     */
+    private final class FlagSlots extends AbstractSet<Integer> {
+        private final byte flag;
+
+        private FlagSlots(byte flag) {
+            this.flag = flag;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof Integer slot && hasFlag(slot, flag);
+        }
+
+        @Override
+        public int size() {
+            int count = 0;
+            for (byte flags : slotFlags) if ((flags & flag) != 0) count++;
+            return count;
+        }
+
+        @Override
+        public @NotNull Iterator<Integer> iterator() {
+            return new Iterator<>() {
+                private int next = advance(0);
+
+                private int advance(int from) {
+                    while (from < size && (slotFlags[from] & flag) == 0) from++;
+                    return from;
+                }
+
+                @Override public boolean hasNext() { return next < size; }
+
+                @Override
+                public Integer next() {
+                    if (next >= size) throw new NoSuchElementException();
+                    int slot = next;
+                    next = advance(slot + 1);
+                    return slot;
+                }
+            };
+        }
     }
 
     /**
@@ -364,16 +881,133 @@ public abstract class BaseGUI<T, C extends Enum<C>> implements InventoryHolder {
      * @param renderer Logic for each item.
      */
     protected void renderPage(Predicate<T> filter, BiConsumer<T, Integer> renderer) {
-        List<T> filteredItems = allItems.stream().filter(filter).toList();
+        List<T> filteredItems = getViewItems().stream().filter(filter).toList();
         int start = page * pageSize;
         for (int i = 0; i < pageSize; i++) {
-            int slot = contentSlots.get(i);
+            int slot = contentSlotIndexes[i];
             int index = start + i;
             if (index < filteredItems.size()) renderer.accept(filteredItems.get(index), slot);
             else inventory.setItem(slot, null);
         }
     }
 
+    /**
+     * Returns the entries used for pagination: the sorted/searched view if one is active, otherwise allItems.
+     * The view is dropped once allItems was replaced or changed its size; call refreshView() to rebuild it.
+     */
+    protected List<T> getViewItems() {
+        if (viewItems != null && (viewSource != allItems || viewSize != allItems.size())) viewItems = null;
+        return viewItems != null ? viewItems : allItems;
+    }
+
+    /**
+     * Sets the texts of an entry that are searchable via search().
+     * The extractors run on the main thread; only tokenizing and matching happen asynchronously.
+     * @param extractors Functions returning searchable texts.
+     */
+    protected void setSearchExtractors(@NotNull List<? extends Function<? super T, String>> extractors) {
+        this.searchExtractors = List.copyOf(extractors);
+        invalidateSearchIndex();
+    }
+
+    /**
+     * Sets the sort order of the entries (see GUISort). Applied on the next refreshView().
+     * The comparator runs off the main thread, so it must only read data of the entries themselves, not Bukkit state
+     * (e.g. no ItemStack display names); precompute such values into the entries if they are needed for sorting.
+     * @param sorter Comparator or null for the original order.
+     */
+    protected void setSorter(@Nullable Comparator<? super T> sorter) {
+        this.sorter = sorter;
+    }
+
+    /**
+     * Drops the search index and the sorted/searched view. Call after allItems was modified in place.
+     */
+    protected void invalidateSearchIndex() {
+        this.viewItems = null;
+        this.searchIndex = null;
+        this.indexedSource = null;
+        this.indexedSize = -1;
+    }
+
+    /**
+     * Returns the active search query (empty if none).
+     */
+    public @NotNull String getSearchQuery() {
+        return searchQuery;
+    }
+
+    /**
+     * Searches the entries asynchronously and shows the result from the first page.
+     * @param player Target player.
+     * @param query Search text, null or empty to reset the search.
+     * @return Completes on the main thread once the GUI was updated.
+     */
+    public CompletableFuture<Void> search(Player player, @Nullable String query) {
+        this.searchQuery = query == null ? "" : query.trim();
+        return refreshView(player);
+    }
+
+    /**
+     * Rebuilds the sorted/searched view of allItems off the main thread and updates the GUI with the result.
+     * Results of older calls that finish late are discarded.
+     * @param player Target player.
+     * @return Completes on the main thread once the GUI was updated.
+     */
+    protected CompletableFuture<Void> refreshView(Player player) {
+        return refreshView(player, 0);
+    }
+
+    private CompletableFuture<Void> refreshView(Player player, int targetPage) {
+        int generation = ++viewGeneration;
+        CompletableFuture<Void> future = new CompletableFuture<>();
+
+        List<T> source = Collections.unmodifiableList(new ArrayList<>(allItems));
+        String query = searchQuery;
+        Comparator<? super T> order = sorter;
+        List<? extends Function<? super T, String>> extractors = searchExtractors;
+        GUISearchIndex<T> cachedIndex = (indexedSource == allItems && indexedSize == allItems.size()) ? searchIndex : null;
+        List<T> indexedFor = allItems;
+        boolean searching = !query.isEmpty() && !extractors.isEmpty();
+        // Extractors may read Bukkit state, so the texts are collected here and only indexed asynchronously.
+        String[][] texts;
+        try {
+            texts = searching && cachedIndex == null ? GUISearchIndex.extract(source, extractors) : null;
+        } catch (RuntimeException e) {
+            RedJuluLib.getPlugin().getLogger().log(Level.WARNING, "Search extractor of " + getClass().getSimpleName() + " failed", e);
+            future.completeExceptionally(e);
+            return future;
+        }
+
+        Bukkit.getScheduler().runTaskAsynchronously(RedJuluLib.getPlugin(), () -> {
+            try {
+                GUISearchIndex<T> index = searching ? (cachedIndex != null ? cachedIndex : GUISearchIndex.build(source, texts)) : cachedIndex;
+                List<T> result = searching ? index.search(query) : new ArrayList<>(source);
+                if (order != null) result.sort(order);
+
+                Bukkit.getScheduler().runTask(RedJuluLib.getPlugin(), () -> {
+                    if (generation == viewGeneration) {
+                        if (index != null && index != cachedIndex) {
+                            searchIndex = index;
+                            indexedSource = indexedFor;
+                            indexedSize = source.size();
+                        }
+                        viewItems = (searching || order != null) ? result : null;
+                        viewSource = indexedFor;
+                        viewSize = source.size();
+                        page = targetPage;
+                        if (player.isOnline()) update(player);
+                    }
+                    future.complete(null);
+                });
+            } catch (Throwable t) {
+                RedJuluLib.getPlugin().getLogger().log(Level.WARNING, "Could not refresh the view of " + getClass().getSimpleName(), t);
+                future.completeExceptionally(t);
+            }
+        });
+        return future;
+    }
+
     /**
      * Fills slots outside the content area.
      * @param material Filler material.
@@ -388,10 +1022,10 @@ public abstract class BaseGUI<T, C extends Enum<C>> implements InventoryHolder {
      * @param skipIgnoredSlots If true, slots added via setIgnored() are not filled.
      */
     protected void fillBackground(@NotNull Material material, boolean skipIgnoredSlots) {
-        ItemStack item = new ItemBuilder(material).setName(Component.empty()).build();
+        ItemStack item = GUIItemCache.filler(material);
+        byte skip = skipIgnoredSlots ? (byte) (FLAG_CONTENT | FLAG_IGNORED) : FLAG_CONTENT;
         for (int i = 0; i < size; i++) {
-            if (contentSlots.contains(i)) continue;
-            if (skipIgnoredSlots && ignoredSlots.contains(i)) continue;
+            if ((slotFlags[i] & skip) != 0) continue;
             inventory.setItem(i, item);
         }
     }
@@ -401,8 +1035,8 @@ public abstract class BaseGUI<T, C extends Enum<C>> implements InventoryHolder {
      * @param material Content material.
      */
     protected void fillContentArea(@NotNull Material material) {
-        ItemStack item = new ItemBuilder(material).setName(Component.empty()).build();
-        for (int slot : contentSlots) inventory.setItem(slot, item);
+        ItemStack item = GUIItemCache.filler(material);
+        for (int slot : contentSlotIndexes) inventory.setItem(slot, item);
     }
 
     /**
@@ -413,12 +1047,25 @@ public abstract class BaseGUI<T, C extends Enum<C>> implements InventoryHolder {
      * @param f Page filter.
      */
     protected void addPaginationButtons(int prev, int next, Player p, Predicate<T> f) {
-        List<T> filtered = allItems.stream().filter(f).toList();
-        if (page > 0) setButton(prev, new ItemBuilder(Material.ARROW).setName(RedJuluLib.getLang().get("gui.prev_page")).build(), (pl, c) -> { page--; update(pl); });
-        else inventory.setItem(prev, new ItemBuilder(Material.ARROW).setName(RedJuluLib.getLang().get("gui.no_prev")).build());
+        List<T> filtered = getViewItems().stream().filter(f).toList();
+        // Built per viewer, so shared GUIs show the arrows in the language of each viewer.
+        if (page > 0) {
+            setViewerItem(p, prev, viewer -> GUIItemCache.get(Material.ARROW, "gui.prev_page", viewer));
+            setClickAction(prev, (pl, c) -> {
+                if (clickSound != null) pl.playSound(pl.getLocation(), clickSound, 0.5f, 1.0f);
+                page--;
+                update(pl);
+            });
+        } else setViewerItem(p, prev, viewer -> GUIItemCache.get(Material.ARROW, "gui.no_prev", viewer));
 
-        if ((page + 1) * pageSize < filtered.size()) setButton(next, new ItemBuilder(Material.ARROW).setName(RedJuluLib.getLang().get("gui.next_page")).build(), (pl, c) -> { page++; update(pl); });
-        else inventory.setItem(next, new ItemBuilder(Material.ARROW).setName(RedJuluLib.getLang().get("gui.no_next")).build());
+        if ((page + 1) * pageSize < filtered.size()) {
+            setViewerItem(p, next, viewer -> GUIItemCache.get(Material.ARROW, "gui.next_page", viewer));
+            setClickAction(next, (pl, c) -> {
+                if (clickSound != null) pl.playSound(pl.getLocation(), clickSound, 0.5f, 1.0f);
+                page++;
+                update(pl);
+            });
+        } else setViewerItem(p, next, viewer -> GUIItemCache.get(Material.ARROW, "gui.no_next", viewer));
     }
 
     /**
@@ -427,7 +1074,20 @@ public abstract class BaseGUI<T, C extends Enum<C>> implements InventoryHolder {
      * @param frames Frame list.
      */
     protected void setAnimatedItem(int slot, List<ItemStack> frames) {
+        setAnimatedItem(slot, frames, 0L);
+    }
+
+    /**
+     * Registers animation frames for a slot with an own frame interval.
+     * @param slot Target slot.
+     * @param frames Frame list.
+     * @param intervalTicks Ticks between frames (0 = default interval of the GUIAnimationTask).
+     */
+    protected void setAnimatedItem(int slot, List<ItemStack> frames, long intervalTicks) {
         animatedSlots.put(slot, frames);
+        frameIntervals[slot] = Math.max(0L, intervalTicks);
+        long interval = frameIntervals[slot] > 0 ? frameIntervals[slot] : GUIAnimationTask.getDefaultInterval();
+        animationPeriod = GUIAnimationTask.gcd(animationPeriod, interval);
     }
 
     /**
@@ -183,7 +183,7 @@ public class DialogBuilder {
     public void show(@NotNull Audience audience) {
         if (audience instanceof Player player) {
             if (player.getOpenInventory().getTopInventory().getHolder() instanceof BaseGUI<?, ?> gui) {
-                gui.setDialogOpen(true);
+                gui.setDialogOpen(player, true);
                 player.closeInventory();
             }
         }
@@ -1,16 +1,32 @@
 package de.redjulu.lib.gui;
 
 import org.bukkit.Bukkit;
-import org.bukkit.entity.Player;
-import org.bukkit.inventory.InventoryHolder;
 import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
- * Task responsible for updating animated slots in all active BaseGUI instances.
+ * Scheduler for animated slots in BaseGUI instances.
+ * GUIs register themselves when they contain animated slots and unregister on close,
+ * so only GUIs that actually animate are visited. The timer only runs while at least one GUI is registered,
+ * and its period is the greatest common divisor of all registered frame intervals instead of every tick.
+ * The periods of the registered GUIs are reference counted, so the GCD is only recomputed when a period
+ * appears or disappears, over the distinct periods only.
  */
 public class GUIAnimationTask {
 
+    private static final Map<BaseGUI<?, ?>, Long> ANIMATED = new LinkedHashMap<>();
+    private static final Map<Long, Integer> PERIOD_COUNTS = new HashMap<>();
+    private static GUIAnimationTask instance;
+
     private final JavaPlugin plugin;
+    private BukkitTask task;
+    private long period = 0;
+    private long defaultInterval = 10L;
     private long tick = 0;
 
     /**
@@ -21,19 +37,99 @@ public class GUIAnimationTask {
     }
 
     /**
-     * Starts the global animation timer.
+     * Activates the animation scheduler.
      *
-     * @param interval Ticks between animation frames.
+     * @param interval Default ticks between animation frames for slots without an own interval.
      */
     public void start(long interval) {
-        Bukkit.getScheduler().runTaskTimer(plugin, () -> {
-            tick++;
-            for (Player player : Bukkit.getOnlinePlayers()) {
-                InventoryHolder holder = player.getOpenInventory().getTopInventory().getHolder();
-                if (holder instanceof BaseGUI<?, ?> gui) {
-                    gui.tickAnimations(tick);
-                }
+        this.defaultInterval = Math.max(1L, interval);
+        instance = this;
+        reschedule();
+    }
+
+    /**
+     * Returns the default frame interval in ticks.
+     */
+    public static long getDefaultInterval() {
+        return instance == null ? 10L : instance.defaultInterval;
+    }
+
+    /**
+     * Registers a GUI with animated slots. Called again after every update, as its frame intervals may have changed.
+     */
+    static void register(BaseGUI<?, ?> gui) {
+        long period = gui.getAnimationPeriod();
+        Long previous = ANIMATED.put(gui, period);
+        if (previous != null && previous == period) return;
+        boolean changed = previous != null && release(previous);
+        if (PERIOD_COUNTS.merge(period, 1, Integer::sum) == 1) changed = true;
+        if (changed && instance != null) instance.reschedule();
+    }
+
+    /**
+     * Removes a GUI from the scheduler (e.g. on close or when it has no animated slots anymore).
+     */
+    static void unregister(BaseGUI<?, ?> gui) {
+        Long previous = ANIMATED.remove(gui);
+        if (previous != null && release(previous) && instance != null) instance.reschedule();
+    }
+
+    /**
+     * Drops one reference of a period. Returns whether it was the last one.
+     */
+    private static boolean release(long period) {
+        Integer count = PERIOD_COUNTS.get(period);
+        if (count == null) return false;
+        if (count > 1) {
+            PERIOD_COUNTS.put(period, count - 1);
+            return false;
+        }
+        PERIOD_COUNTS.remove(period);
+        return true;
+    }
+
+    static long gcd(long a, long b) {
+        while (b != 0) {
+            long r = a % b;
+            a = b;
+            b = r;
+        }
+        return a;
+    }
+
+    /**
+     * Restarts the timer if the greatest common divisor of the registered frame intervals changed.
+     */
+    private void reschedule() {
+        long next = 0;
+        for (long registered : PERIOD_COUNTS.keySet()) next = gcd(next, registered);
+        if (next <= 0) {
+            if (task != null) task.cancel();
+            task = null;
+            period = 0;
+            return;
+        }
+        if (task != null && next == period) return;
+        if (task != null) task.cancel();
+        period = next;
+        // Keeps the tick a multiple of the period, so frames with an interval of the new period still hit it.
+        tick -= tick % period;
+        task = Bukkit.getScheduler().runTaskTimer(plugin, this::run, period, period);
+    }
+
+    private void run() {
+        tick += period;
+        boolean removed = false;
+        Iterator<Map.Entry<BaseGUI<?, ?>, Long>> iterator = ANIMATED.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<BaseGUI<?, ?>, Long> entry = iterator.next();
+            if (!entry.getKey().hasViewers()) {
+                iterator.remove();
+                if (release(entry.getValue())) removed = true;
+                continue;
             }
-        }, 0L, interval);
+            entry.getKey().tickAnimations(tick);
+        }
+        if (removed) reschedule();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,133 @@
+package de.redjulu.lib.gui;
+
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Debounces GUI clicks per player and slot and limits GUI actions per player with a token bucket.
+ * The debounce state is reset whenever a player opens a GUI, so a click on the same slot of the next menu is not dropped.
+ * The defaults (20 actions burst, 10 per second) only catch macro or auto-clicker spam.
+ * Slots marked as expensive (BaseGUI#setExpensive) use a longer debounce window and cost more tokens.
+ * Used by the GUIListener before a button action runs; dropped clicks are counted and answered with the error sound.
+ */
+public final class GUIClickLimiter {
+
+    private static final Map<UUID, State> STATES = new HashMap<>();
+    private static final LongAdder DROPPED_DEBOUNCE = new LongAdder();
+    private static final LongAdder DROPPED_RATE_LIMIT = new LongAdder();
+
+    private static long debounceMillis = 100L;
+    private static long expensiveDebounceMillis = 500L;
+    private static double capacity = 20.0;
+    private static double refillPerSecond = 10.0;
+    private static double expensiveCost = 4.0;
+
+    private static final class State {
+        private long[] lastClick = new long[54];
+        private double tokens;
+        private long lastRefill;
+
+        private State(long now) {
+            this.tokens = capacity;
+            this.lastRefill = now;
+        }
+    }
+
+    private GUIClickLimiter() {}
+
+    /**
+     * Checks whether a click may run its action and consumes tokens if so.
+     * @param player The clicking player.
+     * @param slot The clicked raw slot.
+     * @param expensive Whether the slot was marked as expensive.
+     * @return false if the click is dropped.
+     */
+    static boolean tryAcquire(@NotNull Player player, int slot, boolean expensive) {
+        long now = System.currentTimeMillis();
+        State state = STATES.computeIfAbsent(player.getUniqueId(), k -> new State(now));
+
+        if (slot >= state.lastClick.length) state.lastClick = Arrays.copyOf(state.lastClick, slot + 1);
+        long window = expensive ? expensiveDebounceMillis : debounceMillis;
+        if (window > 0 && now - state.lastClick[slot] < window) {
+            DROPPED_DEBOUNCE.increment();
+            return false;
+        }
+
+        state.tokens = Math.min(capacity, state.tokens + (now - state.lastRefill) * refillPerSecond / 1000.0);
+        state.lastRefill = now;
+        double cost = expensive ? expensiveCost : 1.0;
+        if (state.tokens < cost) {
+            DROPPED_RATE_LIMIT.increment();
+            return false;
+        }
+
+        state.tokens -= cost;
+        state.lastClick[slot] = now;
+        return true;
+    }
+
+    /**
+     * Forgets the last clicks of a player (called when a GUI is opened). The token bucket is kept.
+     */
+    static void resetDebounce(@NotNull UUID uuid) {
+        State state = STATES.get(uuid);
+        if (state != null) Arrays.fill(state.lastClick, 0L);
+    }
+
+    /**
+     * Removes the state of a player (called on quit).
+     */
+    public static void clear(@NotNull UUID uuid) {
+        STATES.remove(uuid);
+    }
+
+    /**
+     * Sets the debounce windows per player and slot in milliseconds (0 disables debouncing).
+     * @param normal Window for normal buttons.
+     * @param expensive Window for expensive buttons.
+     */
+    public static void setDebounce(long normal, long expensive) {
+        debounceMillis = Math.max(0L, normal);
+        expensiveDebounceMillis = Math.max(0L, expensive);
+    }
+
+    /**
+     * Configures the token bucket per player.
+     * @param bucketCapacity Maximum burst of actions.
+     * @param tokensPerSecond Refill rate.
+     * @param expensiveActionCost Tokens consumed by an expensive action (normal actions cost 1).
+     */
+    public static void setRateLimit(double bucketCapacity, double tokensPerSecond, double expensiveActionCost) {
+        capacity = Math.max(1.0, bucketCapacity);
+        refillPerSecond = Math.max(0.0, tokensPerSecond);
+        expensiveCost = Math.max(1.0, expensiveActionCost);
+    }
+
+    /**
+     * Returns how many clicks were dropped by the debounce window.
+     */
+    public static long getDroppedByDebounce() {
+        return DROPPED_DEBOUNCE.sum();
+    }
+
+    /**
+     * Returns how many clicks were dropped by the rate limit.
+     */
+    public static long getDroppedByRateLimit() {
+        return DROPPED_RATE_LIMIT.sum();
+    }
+
+    /**
+     * Resets the dropped click counters.
+     */
+    public static void resetMetrics() {
+        DROPPED_DEBOUNCE.reset();
+        DROPPED_RATE_LIMIT.reset();
+    }
+}
@@ -0,0 +1,103 @@
+package de.redjulu.lib.gui;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Per-player navigation history used by BaseGUI.back().
+ * Stores restore descriptors (GUI factory, page, category, search and sort) instead of open inventories
+ * and evicts entries by depth and idle time, so memory per player stays bounded.
+ */
+public final class GUIHistory {
+
+    private static final Map<UUID, Deque<Entry>> STACKS = new HashMap<>();
+    private static int maxDepth = 5;
+    private static long idleTimeoutMillis = 5 * 60 * 1000L;
+
+    /**
+     * Restore descriptor of a previously opened GUI.
+     *
+     * @param factory   Creates (or returns) the GUI to restore.
+     * @param page      The page to restore.
+     * @param category  The category to restore, may be null.
+     * @param searchQuery The active search query, empty if none.
+     * @param sorter    The active sort order, may be null.
+     * @param timestamp When the entry was pushed (millis).
+     */
+    public record Entry(@NotNull Supplier<? extends BaseGUI<?, ?>> factory, int page, @Nullable Enum<?> category,
+                        @NotNull String searchQuery, @Nullable Comparator<?> sorter, long timestamp) {}
+
+    private GUIHistory() {}
+
+    /**
+     * Pushes an entry onto the player's stack and drops the oldest entries above the max depth.
+     */
+    static void push(@NotNull UUID uuid, @NotNull Entry entry) {
+        if (maxDepth <= 0) return;
+        Deque<Entry> stack = STACKS.computeIfAbsent(uuid, k -> new ArrayDeque<>());
+        evictIdle(stack, entry.timestamp());
+        stack.push(entry);
+        while (stack.size() > maxDepth) stack.removeLast();
+    }
+
+    /**
+     * Removes and returns the latest entry of a player, or null if there is none (or it expired).
+     */
+    static @Nullable Entry pop(@NotNull UUID uuid) {
+        Deque<Entry> stack = STACKS.get(uuid);
+        if (stack == null) return null;
+        evictIdle(stack, System.currentTimeMillis());
+        Entry entry = stack.poll();
+        if (stack.isEmpty()) STACKS.remove(uuid);
+        return entry;
+    }
+
+    private static void evictIdle(Deque<Entry> stack, long now) {
+        if (idleTimeoutMillis <= 0) return;
+        while (!stack.isEmpty() && now - stack.peekLast().timestamp() > idleTimeoutMillis) {
+            stack.removeLast();
+        }
+    }
+
+    /**
+     * Clears the history of a player.
+     * @param uuid Player's UUID.
+     */
+    public static void clear(@NotNull UUID uuid) {
+        STACKS.remove(uuid);
+    }
+
+    /**
+     * Returns the number of stored entries of a player.
+     */
+    public static int size(@NotNull UUID uuid) {
+        Deque<Entry> stack = STACKS.get(uuid);
+        return stack == null ? 0 : stack.size();
+    }
+
+    /**
+     * Sets how many previous menus are kept per player (0 disables the history).
+     */
+    public static void setMaxDepth(int depth) {
+        maxDepth = Math.max(0, depth);
+        for (Deque<Entry> stack : STACKS.values()) {
+            while (stack.size() > maxDepth) stack.removeLast();
+        }
+        STACKS.values().removeIf(Deque::isEmpty);
+    }
+
+    /**
+     * Sets after how many milliseconds an entry is dropped (0 or less disables idle eviction).
+     */
+    public static void setIdleTimeout(long millis) {
+        idleTimeoutMillis = millis;
+    }
+}
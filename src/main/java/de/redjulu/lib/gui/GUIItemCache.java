@@ -0,0 +1,63 @@
+package de.redjulu.lib.gui;
+
+import de.redjulu.RedJuluLib;
+import de.redjulu.lib.ItemBuilder;
+import net.kyori.adventure.text.Component;
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache for prebuilt GUI chrome items (background fillers, pagination arrows).
+ * Items are built once per material, language key and locale and dropped when the language is reloaded.
+ * The returned stacks are shared templates: Inventory#setItem copies them, but they must never be modified.
+ */
+public final class GUIItemCache {
+
+    private static final Map<Key, ItemStack> CACHE = new ConcurrentHashMap<>();
+
+    private record Key(Material material, String langKey, String locale) {}
+
+    private GUIItemCache() {}
+
+    /**
+     * Returns a filler item with an empty name.
+     * @param material Filler material.
+     */
+    public static @NotNull ItemStack filler(@NotNull Material material) {
+        return CACHE.computeIfAbsent(new Key(material, "", ""),
+                k -> new ItemBuilder(material).setName(Component.empty()).build());
+    }
+
+    /**
+     * Returns an item named by a language key in the default language.
+     * @param material Item material.
+     * @param langKey Language key for the display name.
+     */
+    public static @NotNull ItemStack get(@NotNull Material material, @NotNull String langKey) {
+        return CACHE.computeIfAbsent(new Key(material, langKey, RedJuluLib.getLang().getLanguageCode()),
+                k -> new ItemBuilder(material).setName(RedJuluLib.getLang().get(langKey)).build());
+    }
+
+    /**
+     * Returns an item named by a language key in the viewer's client language.
+     * @param material Item material.
+     * @param langKey Language key for the display name.
+     * @param viewer The player the item is shown to.
+     */
+    public static @NotNull ItemStack get(@NotNull Material material, @NotNull String langKey, @NotNull Player viewer) {
+        return CACHE.computeIfAbsent(new Key(material, langKey, RedJuluLib.getLang().resolveLocale(viewer)),
+                k -> new ItemBuilder(material).setName(RedJuluLib.getLang().get(viewer, langKey)).build());
+    }
+
+    /**
+     * Drops all cached items. Registered as reload listener of the LanguageService.
+     */
+    public static void invalidate() {
+        CACHE.clear();
+    }
+}
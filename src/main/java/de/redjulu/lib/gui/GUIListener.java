@@ -1,5 +1,6 @@
 package de.redjulu.lib.gui;
 
+import de.redjulu.lib.MessageHelper;
 import org.bukkit.Material;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
@@ -9,20 +10,26 @@ import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.function.BiConsumer;
 
 public class GUIListener implements Listener {
 
-    private static final Map<Inventory, Map<Integer, BiConsumer<Player, ClickType>>> actions = new HashMap<>();
-
+    /**
+     * Registers a click action for a slot. Actions are stored in the BaseGUI holding the inventory.
+     * @deprecated Use the setButton methods of BaseGUI.
+     */
+    @Deprecated(since = "1.4", forRemoval = true)
     public static void registerButton(Inventory inv, int slot, BiConsumer<Player, ClickType> action) {
-        actions.computeIfAbsent(inv, k -> new HashMap<>()).put(slot, action);
+        if (inv.getHolder() instanceof BaseGUI<?, ?> gui) gui.setClickAction(slot, action);
     }
 
+    /**
+     * Removes all click actions of the BaseGUI holding the inventory.
+     * @deprecated Actions are cleared by BaseGUI itself on update and close.
+     */
+    @Deprecated(since = "1.4", forRemoval = true)
     public static void clearButtons(Inventory inv) {
-        actions.remove(inv);
+        if (inv.getHolder() instanceof BaseGUI<?, ?> gui) gui.clearClickActions();
     }
 
     @EventHandler
@@ -73,9 +80,15 @@ public class GUIListener implements Listener {
                 return;
             }
             event.setCancelled(true);
-            Map<Integer, BiConsumer<Player, ClickType>> invActions = actions.get(event.getInventory());
-            if (invActions != null && invActions.containsKey(slot)) {
-                invActions.get(slot).accept(player, event.getClick());
+            BiConsumer<Player, ClickType> action = gui.getClickAction(slot);
+            if (action != null) {
+                if (GUIClickLimiter.tryAcquire(player, slot, gui.isExpensiveSlot(slot))) {
+                    long start = GUIProfiler.start();
+                    action.accept(player, event.getClick());
+                    GUIProfiler.record(gui.getClass(), GUIProfiler.Phase.CLICK, start);
+                } else {
+                    MessageHelper.playError(player);
+                }
             }
         } else {
             if (event.getAction() == InventoryAction.MOVE_TO_OTHER_INVENTORY) {
@@ -108,7 +121,7 @@ public class GUIListener implements Listener {
             if (event.getInventory().getType().equals(InventoryType.ANVIL)) return;
 
             // Wenn ein Dialog offen ist (z.B. Suche), lassen wir das Inventar im Hintergrund "ruhen"
-            if (!gui.isSwitching() && !gui.isDialogOpen()) {
+            if (!gui.isSwitching(player) && !gui.isDialogOpen(player)) {
                 for (int i = 0; i < event.getInventory().getSize(); i++) {
                     if (gui.isPlaceholderSlot(i) || gui.isInteractableSlot(i)) {
                         ItemStack item = event.getInventory().getItem(i);
@@ -120,13 +133,14 @@ public class GUIListener implements Listener {
             }
         }
         // Button-Aktionen werden nur gelöscht, wenn wir wirklich fertig sind
-        if (event.getInventory().getHolder() instanceof BaseGUI<?, ?> gui && !gui.isDialogOpen()) {
-            clearButtons(event.getInventory());
+        if (event.getInventory().getHolder() instanceof BaseGUI<?, ?> gui && !gui.isDialogOpen(event.getPlayer())) {
+            gui.handleClose(event.getPlayer());
         }
     }
 
     @EventHandler
     public void onQuit(PlayerQuitEvent event) {
         BaseGUI.clearHistory(event.getPlayer().getUniqueId());
+        GUIClickLimiter.clear(event.getPlayer().getUniqueId());
     }
 }
\ No newline at end of file
@@ -0,0 +1,152 @@
+package de.redjulu.lib.gui;
+
+import de.redjulu.lib.MessageHelper;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Optional timing metrics per BaseGUI class for update(), compose(), tickAnimations() and click actions.
+ * Durations are recorded into log-linear histograms (count, total, p50, p99).
+ * Disabled by default; while disabled, the instrumentation only reads one flag.
+ */
+public final class GUIProfiler {
+
+    /** The measured part of a GUI. */
+    public enum Phase { UPDATE, COMPOSE, ANIMATION, CLICK }
+
+    /**
+     * Timing summary of one GUI class and phase.
+     */
+    public record Snapshot(@NotNull String gui, @NotNull Phase phase, long count, long totalNanos, long p50Nanos, long p99Nanos) {}
+
+    private static final Map<Class<?>, Histogram[]> STATS = new ConcurrentHashMap<>();
+    private static volatile boolean enabled = false;
+
+    private GUIProfiler() {}
+
+    /**
+     * Enables or disables recording. Already recorded data is kept.
+     */
+    public static void setEnabled(boolean enable) {
+        enabled = enable;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the start timestamp for a measurement, or 0 if profiling is disabled.
+     */
+    static long start() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Records the duration since start. Does nothing if start is 0.
+     */
+    static void record(@NotNull Class<?> type, @NotNull Phase phase, long start) {
+        if (start == 0L) return;
+        long nanos = System.nanoTime() - start;
+        STATS.computeIfAbsent(type, k -> newHistograms())[phase.ordinal()].record(nanos);
+    }
+
+    /**
+     * Returns the recorded metrics of all GUI classes, sorted by total time (descending).
+     */
+    public static @NotNull List<Snapshot> snapshot() {
+        List<Snapshot> result = new ArrayList<>();
+        for (Map.Entry<Class<?>, Histogram[]> entry : STATS.entrySet()) {
+            for (Phase phase : Phase.values()) {
+                Histogram histogram = entry.getValue()[phase.ordinal()];
+                long count = histogram.count.sum();
+                if (count == 0) continue;
+                result.add(new Snapshot(entry.getKey().getName(), phase, count, histogram.total.sum(),
+                        histogram.percentile(0.50), histogram.percentile(0.99)));
+            }
+        }
+        result.sort(Comparator.comparingLong(Snapshot::totalNanos).reversed());
+        return result;
+    }
+
+    /**
+     * Prints all recorded metrics to the console.
+     */
+    public static void dump() {
+        List<Snapshot> snapshots = snapshot();
+        if (snapshots.isEmpty()) {
+            MessageHelper.console("GUI profiler: no data" + (enabled ? "" : " (disabled)"));
+            return;
+        }
+        for (Snapshot s : snapshots) {
+            MessageHelper.console(String.format("%s %s n=%d total=%.2fms p50=%.3fms p99=%.3fms",
+                    s.gui(), s.phase(), s.count(), s.totalNanos() / 1_000_000.0,
+                    s.p50Nanos() / 1_000_000.0, s.p99Nanos() / 1_000_000.0));
+        }
+    }
+
+    /**
+     * Drops all recorded data.
+     */
+    public static void reset() {
+        STATS.clear();
+    }
+
+    private static Histogram[] newHistograms() {
+        Histogram[] histograms = new Histogram[Phase.values().length];
+        for (int i = 0; i < histograms.length; i++) histograms[i] = new Histogram();
+        return histograms;
+    }
+
+    /**
+     * Log-linear histogram: every power of two is split into 8 sub-buckets (max. 12.5% error).
+     */
+    private static final class Histogram {
+
+        private static final int SUB_BITS = 3;
+        private static final int SUB_COUNT = 1 << SUB_BITS;
+
+        private final AtomicLongArray buckets = new AtomicLongArray(64 * SUB_COUNT);
+        private final LongAdder count = new LongAdder();
+        private final LongAdder total = new LongAdder();
+
+        private void record(long nanos) {
+            long value = Math.max(0L, nanos);
+            buckets.incrementAndGet(index(value));
+            count.increment();
+            total.add(value);
+        }
+
+        private long percentile(double quantile) {
+            long target = (long) Math.ceil(quantile * count.sum());
+            long seen = 0;
+            for (int i = 0; i < buckets.length(); i++) {
+                seen += buckets.get(i);
+                if (seen >= target && seen > 0) return value(i);
+            }
+            return 0L;
+        }
+
+        private static int index(long value) {
+            if (value < SUB_COUNT) return (int) value;
+            int exp = 63 - Long.numberOfLeadingZeros(value);
+            int mantissa = (int) ((value >>> (exp - SUB_BITS)) & (SUB_COUNT - 1));
+            return ((exp - SUB_BITS + 1) << SUB_BITS) | mantissa;
+        }
+
+        /** Returns the middle of the value range of a bucket. */
+        private static long value(int index) {
+            if (index < SUB_COUNT) return index;
+            int shift = (index >>> SUB_BITS) - 1;
+            long lower = (long) (SUB_COUNT + (index & (SUB_COUNT - 1))) << shift;
+            return lower + ((1L << shift) >>> 1);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package de.redjulu.lib.gui;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * Prefix index for full-text search over GUI entries.
+ * Every entry is split into lowercase words by the given extractors. A query matches an entry
+ * when each query word is the prefix of one of its words. Immutable after build, so it can be built and queried off the main thread.
+ * The extractors may read Bukkit state, so callers building off the main thread extract the texts first with extract().
+ *
+ * @param <T> The data type of the indexed entries.
+ */
+public final class GUISearchIndex<T> {
+
+    private final List<T> items;
+    private final String[] tokens;
+    private final int[] owners;
+
+    private GUISearchIndex(List<T> items, String[] tokens, int[] owners) {
+        this.items = items;
+        this.tokens = tokens;
+        this.owners = owners;
+    }
+
+    /**
+     * Builds an index over the given entries.
+     * @param items Entries to index (the list must not be modified afterwards).
+     * @param extractors Functions returning the searchable texts of an entry (null results are skipped).
+     */
+    public static <T> @NotNull GUISearchIndex<T> build(@NotNull List<T> items, @NotNull List<? extends Function<? super T, String>> extractors) {
+        return build(items, extract(items, extractors));
+    }
+
+    /**
+     * Runs the extractors over the entries. Call on the main thread if the extractors read Bukkit state.
+     * @param items Entries to index.
+     * @param extractors Functions returning the searchable texts of an entry.
+     * @return The texts per entry, in the order of the entries (null texts are kept and skipped by build()).
+     */
+    public static <T> @NotNull String[][] extract(@NotNull List<T> items, @NotNull List<? extends Function<? super T, String>> extractors) {
+        String[][] texts = new String[items.size()][extractors.size()];
+        for (int i = 0; i < texts.length; i++) {
+            T item = items.get(i);
+            for (int e = 0; e < texts[i].length; e++) texts[i][e] = extractors.get(e).apply(item);
+        }
+        return texts;
+    }
+
+    /**
+     * Builds an index from texts extracted with extract(). Does not touch the entries, so it is safe off the main thread.
+     * @param items Entries to index (the list must not be modified afterwards).
+     * @param texts The texts per entry, in the order of the entries.
+     */
+    public static <T> @NotNull GUISearchIndex<T> build(@NotNull List<T> items, @NotNull String[][] texts) {
+        List<String> words = new ArrayList<>();
+        List<Integer> wordOwners = new ArrayList<>();
+        for (int i = 0; i < texts.length; i++) {
+            for (String text : texts[i]) {
+                if (text == null) continue;
+                int before = words.size();
+                tokenize(text, words);
+                for (int w = before; w < words.size(); w++) wordOwners.add(i);
+            }
+        }
+
+        Integer[] order = new Integer[words.size()];
+        for (int i = 0; i < order.length; i++) order[i] = i;
+        Arrays.sort(order, (a, b) -> words.get(a).compareTo(words.get(b)));
+
+        String[] tokens = new String[order.length];
+        int[] owners = new int[order.length];
+        for (int i = 0; i < order.length; i++) {
+            tokens[i] = words.get(order[i]);
+            owners[i] = wordOwners.get(order[i]);
+        }
+        return new GUISearchIndex<>(items, tokens, owners);
+    }
+
+    /**
+     * Returns all entries matching the query in their original order. An empty query returns all entries.
+     * @param query Search text (case-insensitive).
+     */
+    public @NotNull List<T> search(@Nullable String query) {
+        List<String> terms = new ArrayList<>();
+        if (query != null) tokenize(query, terms);
+        if (terms.isEmpty()) return new ArrayList<>(items);
+
+        BitSet result = null;
+        for (String term : terms) {
+            BitSet matches = new BitSet(items.size());
+            for (int i = lowerBound(term); i < tokens.length && tokens[i].startsWith(term); i++) {
+                matches.set(owners[i]);
+            }
+            if (result == null) result = matches;
+            else result.and(matches);
+            if (result.isEmpty()) return Collections.emptyList();
+        }
+
+        List<T> found = new ArrayList<>(result.cardinality());
+        for (int i = result.nextSetBit(0); i >= 0; i = result.nextSetBit(i + 1)) found.add(items.get(i));
+        return found;
+    }
+
+    /**
+     * Returns the indexed entries.
+     */
+    public @NotNull List<T> getItems() {
+        return items;
+    }
+
+    private int lowerBound(String term) {
+        int lo = 0, hi = tokens.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (tokens[mid].compareTo(term) < 0) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    private static void tokenize(String text, List<String> out) {
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            boolean word = i < lower.length() && Character.isLetterOrDigit(lower.charAt(i));
+            if (word && start < 0) start = i;
+            else if (!word && start >= 0) {
+                out.add(lower.substring(start, i));
+                start = -1;
+            }
+        }
+    }
+}
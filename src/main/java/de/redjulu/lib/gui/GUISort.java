@@ -0,0 +1,37 @@
+package de.redjulu.lib.gui;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.text.Collator;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Common comparators for sorting BaseGUI entries (see BaseGUI#setSorter).
+ * BaseGUI sorts off the main thread, so the extractors must only read data of the entry itself
+ * (no ItemStack meta, worlds, entities or other Bukkit state).
+ */
+public final class GUISort {
+
+    private GUISort() {}
+
+    /**
+     * Sorts alphabetically (case-insensitive, locale-aware). Null texts are sorted last.
+     * @param extractor Returns the text to sort by.
+     */
+    public static <T> @NotNull Comparator<T> alphabetical(@NotNull Function<? super T, String> extractor) {
+        Collator collator = Collator.getInstance(Locale.ROOT);
+        collator.setStrength(Collator.SECONDARY);
+        return Comparator.comparing(extractor, Comparator.nullsLast(collator::compare));
+    }
+
+    /**
+     * Sorts by a numeric value, ascending.
+     * @param extractor Returns the value to sort by.
+     */
+    public static <T> @NotNull Comparator<T> numeric(@NotNull ToLongFunction<? super T> extractor) {
+        return Comparator.comparingLong(extractor);
+    }
+}
@@ -14,19 +14,19 @@ import org.bukkit.event.entity.EntityPickupItemEvent;
 import org.bukkit.event.entity.PlayerDeathEvent;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.event.player.PlayerDropItemEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerRespawnEvent;
 import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+import org.bukkit.persistence.PersistentDataContainer;
 import org.bukkit.persistence.PersistentDataType;
 
 import java.util.*;
 
 public abstract class BoundItem extends GenericItem {
 
-    private final NamespacedKey ownerKey;
-
     public BoundItem(String id, String category, ItemBuilder builder) {
         super(id, category, builder);
-        this.ownerKey = new NamespacedKey(RedJuluLib.getPlugin(), "bound_owner");
     }
 
     public ItemStack getUnboundedItem() {
@@ -37,7 +37,7 @@ public abstract class BoundItem extends GenericItem {
         ItemStack item = super.getItem();
         var meta = item.getItemMeta();
         if (meta != null) {
-            meta.getPersistentDataContainer().set(ownerKey, PersistentDataType.STRING, owner.getUniqueId().toString());
+            setOwner(meta.getPersistentDataContainer(), owner.getUniqueId());
 
             List<Component> lore = meta.hasLore() ? meta.lore() : new ArrayList<>();
             if (lore == null) lore = new ArrayList<>();
@@ -50,9 +50,46 @@ public abstract class BoundItem extends GenericItem {
         return item;
     }
 
+    /**
+     * Stores the owner as two longs and removes a legacy string owner.
+     */
+    static void setOwner(PersistentDataContainer pdc, UUID owner) {
+        pdc.set(ItemKeys.BOUND_OWNER, PersistentDataType.LONG_ARRAY,
+                new long[]{owner.getMostSignificantBits(), owner.getLeastSignificantBits()});
+    }
+
+    /**
+     * Checks if an item carries an owner, in the current or the legacy string format.
+     */
+    static boolean hasOwner(ItemStack item) {
+        var pdc = item.getPersistentDataContainer();
+        return pdc.has(ItemKeys.BOUND_OWNER, PersistentDataType.LONG_ARRAY) || pdc.has(ItemKeys.BOUND_OWNER, PersistentDataType.STRING);
+    }
+
+    /**
+     * Rewrites a legacy string owner (items bound before owners were stored as longs).
+     * @return True if the item was changed.
+     */
+    static boolean migrateOwner(ItemStack item) {
+        if (item == null || !item.hasItemMeta()) return false;
+        var pdc = item.getPersistentDataContainer();
+        // get() with the wrong type throws, so the stored type is checked first.
+        if (!pdc.has(ItemKeys.BOUND_OWNER, PersistentDataType.STRING)) return false;
+        String legacy = pdc.get(ItemKeys.BOUND_OWNER, PersistentDataType.STRING);
+        if (legacy == null) return false;
+        UUID owner;
+        try {
+            owner = UUID.fromString(legacy);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        item.editMeta(meta -> setOwner(meta.getPersistentDataContainer(), owner));
+        return true;
+    }
+
     public static class BoundListener implements Listener {
 
-        private final NamespacedKey ownerKey = new NamespacedKey(RedJuluLib.getPlugin(), "bound_owner");
+        private final NamespacedKey ownerKey = ItemKeys.BOUND_OWNER;
         private final Map<UUID, List<ItemStack>> respawnItems = new HashMap<>();
 
         @EventHandler(priority = EventPriority.LOWEST)
@@ -114,11 +151,32 @@ public abstract class BoundItem extends GenericItem {
             }
         }
 
+        @EventHandler
+        public void onJoin(PlayerJoinEvent e) {
+            PlayerInventory inventory = e.getPlayer().getInventory();
+            for (int slot = 0; slot < inventory.getSize(); slot++) {
+                ItemStack item = inventory.getItem(slot);
+                if (migrateOwner(item)) inventory.setItem(slot, item);
+            }
+        }
+
         private boolean isRestricted(ItemStack item, Player player) {
             if (item == null || !item.hasItemMeta()) return false;
-            String ownerUuid = item.getItemMeta().getPersistentDataContainer().get(ownerKey, PersistentDataType.STRING);
-            if (ownerUuid == null) return false;
-            return !ownerUuid.equals(player.getUniqueId().toString());
+            var pdc = item.getPersistentDataContainer();
+            if (pdc.isEmpty() || !pdc.has(ownerKey)) return false;
+
+            UUID uuid = player.getUniqueId();
+            if (pdc.has(ownerKey, PersistentDataType.LONG_ARRAY)) {
+                long[] owner = pdc.get(ownerKey, PersistentDataType.LONG_ARRAY);
+                return owner == null || owner.length != 2
+                        || owner[0] != uuid.getMostSignificantBits() || owner[1] != uuid.getLeastSignificantBits();
+            }
+
+            // Items bound before the owner was stored as longs. Player inventories are migrated on join and
+            // interact; items in ender chests or containers keep the string owner until they are used.
+            if (!pdc.has(ownerKey, PersistentDataType.STRING)) return false;
+            String legacyOwner = pdc.get(ownerKey, PersistentDataType.STRING);
+            return legacyOwner != null && !legacyOwner.equals(uuid.toString());
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,174 @@
+package de.redjulu.lib.item;
+
+import de.redjulu.RedJuluLib;
+import org.bukkit.Bukkit;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Opt-in persistence of long GenericItem cooldowns through the FilestoreManager (bucket "cooldowns", one entry per player).
+ * Only cooldowns of at least the configured duration are written, so short combat cooldowns cause no I/O.
+ * Changes are collected and written in batches from an async task; a leaving player is written right away,
+ * so the next server of a network sees the cooldown on join. Cooldowns are loaded asynchronously on join.
+ */
+public final class CooldownPersistence {
+
+    private static final String BUCKET = "cooldowns";
+
+    private static final Map<UUID, Map<String, Long>> PERSISTED = new ConcurrentHashMap<>();
+    private static final Set<UUID> DIRTY = ConcurrentHashMap.newKeySet();
+
+    private static volatile boolean enabled = false;
+    private static volatile long minDurationMs = 60_000L;
+    private static BukkitTask flushTask;
+    private static Listener listener;
+
+    private CooldownPersistence() {}
+
+    /**
+     * Enables persistent cooldowns. Requires RedJuluLib.init() (FilestoreManager).
+     *
+     * @param minDurationSeconds Only cooldowns of at least this duration are persisted.
+     * @param flushIntervalTicks Ticks between batched writes (e.g. 100).
+     */
+    public static synchronized void enable(double minDurationSeconds, long flushIntervalTicks) {
+        minDurationMs = (long) (minDurationSeconds * 1000L);
+        if (enabled) return;
+        enabled = true;
+
+        listener = new PersistenceListener();
+        Bukkit.getPluginManager().registerEvents(listener, RedJuluLib.getPlugin());
+        flushTask = Bukkit.getScheduler().runTaskTimerAsynchronously(RedJuluLib.getPlugin(),
+                CooldownPersistence::flush, flushIntervalTicks, Math.max(1L, flushIntervalTicks));
+        for (var player : Bukkit.getOnlinePlayers()) load(player.getUniqueId());
+    }
+
+    /**
+     * Writes all pending changes and disables persistent cooldowns.
+     * Called from RedJuluLib.shutdown(); blocks until the pending writes are done.
+     */
+    public static synchronized void disable() {
+        if (!enabled) return;
+        enabled = false;
+        flushTask.cancel();
+        flushTask = null;
+        HandlerList.unregisterAll(listener);
+        listener = null;
+        flush();
+        PERSISTED.clear();
+    }
+
+    /**
+     * Checks if persistent cooldowns are enabled.
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Remembers a started cooldown for the next flush if it is long enough.
+     */
+    static void track(UUID player, String itemId, long end, long duration) {
+        if (!enabled || duration < minDurationMs) return;
+        PERSISTED.computeIfAbsent(player, k -> new ConcurrentHashMap<>()).put(itemId, end);
+        DIRTY.add(player);
+    }
+
+    /**
+     * Writes all changed players. Runs on the async flush task.
+     */
+    public static void flush() {
+        for (UUID player : DIRTY) {
+            DIRTY.remove(player);
+            write(player);
+        }
+    }
+
+    private static void write(UUID player) {
+        long now = System.currentTimeMillis();
+        Map<String, Long> cooldowns = PERSISTED.get(player);
+        List<String> lines = new ArrayList<>();
+        if (cooldowns != null) {
+            cooldowns.entrySet().removeIf(e -> e.getValue() <= now);
+            // Item ids may contain dots, so they are stored as "expiry:id" lines instead of map keys.
+            cooldowns.forEach((id, end) -> lines.add(end + ":" + id));
+        }
+        if (Bukkit.getPlayer(player) == null) PERSISTED.remove(player, cooldowns);
+
+        try {
+            if (lines.isEmpty()) RedJuluLib.getFilestoreManager().delete(BUCKET, player.toString());
+            else RedJuluLib.getFilestoreManager().save(BUCKET, player.toString(), lines);
+        } catch (RuntimeException e) {
+            RedJuluLib.getPlugin().getLogger().warning("Could not save cooldowns of " + player + ": " + e.getMessage());
+            DIRTY.add(player);
+        }
+    }
+
+    private static void load(UUID player) {
+        Bukkit.getScheduler().runTaskAsynchronously(RedJuluLib.getPlugin(), () -> {
+            List<?> lines;
+            try {
+                lines = RedJuluLib.getFilestoreManager().loadList(BUCKET, player.toString());
+            } catch (RuntimeException e) {
+                RedJuluLib.getPlugin().getLogger().warning("Could not load cooldowns of " + player + ": " + e.getMessage());
+                return;
+            }
+            if (lines == null || lines.isEmpty()) return;
+
+            Map<String, Long> loaded = new ConcurrentHashMap<>();
+            long now = System.currentTimeMillis();
+            for (Object line : lines) {
+                String value = String.valueOf(line);
+                int separator = value.indexOf(':');
+                if (separator <= 0) continue;
+                try {
+                    long end = Long.parseLong(value.substring(0, separator));
+                    if (end > now) loaded.put(value.substring(separator + 1), end);
+                } catch (NumberFormatException ignored) {
+                }
+            }
+
+            Bukkit.getScheduler().runTask(RedJuluLib.getPlugin(), () -> apply(player, loaded));
+        });
+    }
+
+    private static void apply(UUID player, Map<String, Long> loaded) {
+        if (!enabled || Bukkit.getPlayer(player) == null) return;
+        Map<String, Long> persisted = PERSISTED.computeIfAbsent(player, k -> new ConcurrentHashMap<>());
+        loaded.forEach((id, end) -> {
+            int index = CooldownStore.index(id);
+            // A cooldown started since the join wins over the stored one.
+            if (CooldownStore.getExpiry(player, index) >= end) return;
+            CooldownStore.set(player, index, end);
+            persisted.putIfAbsent(id, end);
+        });
+    }
+
+    private static final class PersistenceListener implements Listener {
+        @EventHandler
+        public void onJoin(PlayerJoinEvent event) {
+            load(event.getPlayer().getUniqueId());
+        }
+
+        @EventHandler
+        public void onQuit(PlayerQuitEvent event) {
+            UUID player = event.getPlayer().getUniqueId();
+            if (!PERSISTED.containsKey(player)) return;
+            DIRTY.add(player);
+            Bukkit.getScheduler().runTaskAsynchronously(RedJuluLib.getPlugin(), () -> {
+                if (DIRTY.remove(player)) write(player);
+            });
+        }
+    }
+}
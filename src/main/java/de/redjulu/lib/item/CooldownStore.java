@@ -0,0 +1,124 @@
+package de.redjulu.lib.item;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Cooldown expiries of all GenericItems.
+ * Every item id gets a dense index, and each player with cooldowns holds one primitive array of expiry timestamps.
+ * Reads are lock-free and safe from any thread; writes happen on the main thread.
+ * Finished entries are cleared by the cooldown ticker, players without running cooldowns are dropped,
+ * and everything of a player is removed when they leave.
+ */
+public final class CooldownStore {
+
+    private static final Map<String, Integer> INDEX = new ConcurrentHashMap<>();
+    private static final List<String> IDS = new CopyOnWriteArrayList<>();
+    private static final Map<UUID, AtomicLongArray> EXPIRIES = new ConcurrentHashMap<>();
+
+    private CooldownStore() {}
+
+    /**
+     * Returns the dense index of an item id, assigning the next free one on first use.
+     */
+    static synchronized int index(@NotNull String id) {
+        Integer index = INDEX.get(id);
+        if (index != null) return index;
+        IDS.add(id);
+        INDEX.put(id, IDS.size() - 1);
+        return IDS.size() - 1;
+    }
+
+    /**
+     * Returns the item id of a dense index.
+     */
+    static String id(int index) {
+        return IDS.get(index);
+    }
+
+    /**
+     * Returns the expiry timestamp (epoch millis) of a cooldown, or 0 if none is stored.
+     *
+     * @param player The player's UUID.
+     * @param itemId The GenericItem id.
+     */
+    public static long getExpiry(@NotNull UUID player, @NotNull String itemId) {
+        Integer index = INDEX.get(itemId);
+        return index == null ? 0L : getExpiry(player, index);
+    }
+
+    static long getExpiry(UUID player, int index) {
+        AtomicLongArray expiries = EXPIRIES.get(player);
+        return expiries == null || index >= expiries.length() ? 0L : expiries.get(index);
+    }
+
+    /**
+     * Checks if a cooldown is still running.
+     *
+     * @param player The player's UUID.
+     * @param itemId The GenericItem id.
+     */
+    public static boolean isActive(@NotNull UUID player, @NotNull String itemId) {
+        return getExpiry(player, itemId) > System.currentTimeMillis();
+    }
+
+    static void set(UUID player, int index, long end) {
+        AtomicLongArray expiries = EXPIRIES.get(player);
+        if (expiries == null || index >= expiries.length()) {
+            expiries = grow(expiries, IDS.size());
+            EXPIRIES.put(player, expiries);
+        }
+        expiries.set(index, end);
+    }
+
+    /**
+     * Clears a finished cooldown unless it was restarted in the meantime.
+     * Drops the player once no cooldown is stored anymore.
+     */
+    static void expire(UUID player, int index, long end) {
+        AtomicLongArray expiries = EXPIRIES.get(player);
+        if (expiries == null || index >= expiries.length()) return;
+        if (!expiries.compareAndSet(index, end, 0L)) return;
+        prune(player, expiries);
+    }
+
+    /**
+     * Removes all cooldowns of a player.
+     *
+     * @param player The player's UUID.
+     */
+    public static void clear(@NotNull UUID player) {
+        EXPIRIES.remove(player);
+    }
+
+    /**
+     * Returns the number of players with stored cooldowns.
+     */
+    public static int size() {
+        return EXPIRIES.size();
+    }
+
+    private static void prune(UUID player, AtomicLongArray expiries) {
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < expiries.length(); i++) {
+            long end = expiries.get(i);
+            if (end > now) return;
+            if (end != 0L) expiries.compareAndSet(i, end, 0L);
+        }
+        EXPIRIES.remove(player, expiries);
+    }
+
+    private static AtomicLongArray grow(AtomicLongArray old, int size) {
+        AtomicLongArray grown = new AtomicLongArray(Math.max(size, 1));
+        if (old != null) {
+            for (int i = 0; i < old.length(); i++) grown.set(i, old.get(i));
+        }
+        return grown;
+    }
+}
@@ -0,0 +1,155 @@
+package de.redjulu.lib.item;
+
+import de.redjulu.RedJuluLib;
+import net.kyori.adventure.text.Component;
+import org.bukkit.Bukkit;
+import org.bukkit.Sound;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+
+/**
+ * Single scheduler for the cooldown displays of all GenericItems.
+ * Expiries are kept in a priority queue, so finished cooldowns are found without scanning.
+ * Each run only visits players with running cooldowns and renders the action bar only
+ * for the cooldown currently shown, and only when its visible state changed.
+ * The timer only runs while at least one cooldown is active. Main thread only.
+ */
+final class CooldownTicker {
+
+    private static final long PERIOD = 2L;
+    private static final int READY_TICKS = 20;
+    private static final long ERROR_BLINK_MS = 400L;
+    private static final String CHANNEL = "cooldown";
+
+    private static final Map<UUID, PlayerState> ACTIVE = new HashMap<>();
+    private static final PriorityQueue<Expiry> EXPIRIES = new PriorityQueue<>(Comparator.comparingLong(Expiry::end));
+    private static BukkitTask task;
+
+    private record Expiry(long end, UUID player, String itemId) {}
+
+    private record Running(GenericItem item, long end, long duration) {}
+
+    private static final class PlayerState {
+        private final Map<String, Running> running = new LinkedHashMap<>();
+        private String displayId;
+        private GenericItem readyItem;
+        private int readyTicks;
+        private long errorBlinkUntil;
+        private String lastDisplayId;
+        private long lastDisplayKey;
+        private Component lastDisplay;
+    }
+
+    private CooldownTicker() {}
+
+    /**
+     * Starts (or restarts) showing a cooldown for a player. The started cooldown becomes the displayed one.
+     */
+    static void start(Player player, GenericItem item, long end, long duration) {
+        PlayerState state = ACTIVE.computeIfAbsent(player.getUniqueId(), k -> new PlayerState());
+        state.running.put(item.getId(), new Running(item, end, duration));
+        state.displayId = item.getId();
+        state.readyItem = null;
+        EXPIRIES.add(new Expiry(end, player.getUniqueId(), item.getId()));
+        if (task == null) {
+            // The seconds placeholder changes every frame, so caching these renders would only evict useful entries.
+            RedJuluLib.getLang().excludeFromRenderCache("system.cooldown_format");
+            task = Bukkit.getScheduler().runTaskTimer(RedJuluLib.getPlugin(), CooldownTicker::run, 0L, PERIOD);
+        }
+    }
+
+    /**
+     * Lets the displayed cooldown bar blink red (used when an item is used during its cooldown).
+     */
+    static void blink(Player player) {
+        PlayerState state = ACTIVE.get(player.getUniqueId());
+        if (state != null) state.errorBlinkUntil = System.currentTimeMillis() + ERROR_BLINK_MS;
+    }
+
+    private static void run() {
+        long now = System.currentTimeMillis();
+        expire(now);
+
+        Iterator<Map.Entry<UUID, PlayerState>> iterator = ACTIVE.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<UUID, PlayerState> entry = iterator.next();
+            PlayerState state = entry.getValue();
+            Player player = Bukkit.getPlayer(entry.getKey());
+            if (player == null || (state.running.isEmpty() && state.readyItem == null)) {
+                iterator.remove();
+                continue;
+            }
+            show(player, state, now);
+        }
+
+        if (ACTIVE.isEmpty()) {
+            EXPIRIES.clear();
+            task.cancel();
+            task = null;
+        }
+    }
+
+    private static void expire(long now) {
+        Expiry expiry;
+        while ((expiry = EXPIRIES.peek()) != null && expiry.end() <= now) {
+            EXPIRIES.poll();
+            PlayerState state = ACTIVE.get(expiry.player());
+            if (state == null) continue;
+            Running running = state.running.get(expiry.itemId());
+            // Restarted cooldowns leave their old expiry behind.
+            if (running == null || running.end() != expiry.end()) continue;
+
+            state.running.remove(expiry.itemId());
+            CooldownStore.expire(expiry.player(), running.item().getCooldownIndex(), running.end());
+            if (expiry.itemId().equals(state.displayId)) {
+                state.displayId = null;
+                state.readyItem = running.item();
+                state.readyTicks = 0;
+                Player player = Bukkit.getPlayer(expiry.player());
+                if (player != null) player.playSound(player.getLocation(), Sound.BLOCK_NOTE_BLOCK_CHIME, 0.5f, 1.8f);
+            }
+        }
+    }
+
+    private static void show(Player player, PlayerState state, long now) {
+        if (state.readyItem != null) {
+            display(player, state, state.readyItem.getId(), -1L, state.readyItem, 0, 0, false);
+            state.readyTicks += PERIOD;
+            if (state.readyTicks >= READY_TICKS) state.readyItem = null;
+            return;
+        }
+
+        // With a single running cooldown there is nothing to switch to, so the held item is not read.
+        if (state.running.size() > 1) {
+            String handId = GenericItem.getHeldId(player);
+            if (handId != null && state.running.containsKey(handId)) state.displayId = handId;
+        }
+        Running running = state.displayId == null ? null : state.running.get(state.displayId);
+        if (running == null) return;
+
+        long remaining = running.end() - now;
+        boolean blink = state.errorBlinkUntil > now;
+        int filled = (int) (15 * (1.0 - (double) remaining / running.duration()));
+        long key = ((remaining / 100) << 6) | ((long) filled << 1) | (blink ? 1 : 0);
+        display(player, state, state.displayId, key, running.item(), remaining, filled, blink);
+    }
+
+    private static void display(Player player, PlayerState state, String displayId, long key,
+                                GenericItem item, long remaining, int filled, boolean blink) {
+        if (state.lastDisplay == null || key != state.lastDisplayKey || !displayId.equals(state.lastDisplayId)) {
+            state.lastDisplay = key < 0 ? item.renderCooldownReady() : item.renderCooldown(remaining, filled, blink);
+            state.lastDisplayKey = key;
+            state.lastDisplayId = displayId;
+        }
+        // Re-posting an unchanged component is deduplicated by the ActionbarManager.
+        RedJuluLib.getActionbarManager().show(player, CHANNEL, state.lastDisplay, 0, PERIOD + 1);
+    }
+}
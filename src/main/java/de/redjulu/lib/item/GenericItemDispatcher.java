@@ -0,0 +1,129 @@
+package de.redjulu.lib.item;
+
+import de.redjulu.lib.MessageHelper;
+import net.kyori.adventure.text.Component;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerDropItemEvent;
+import org.bukkit.event.player.PlayerInteractEntityEvent;
+import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.event.player.PlayerItemConsumeEvent;
+import org.bukkit.event.player.PlayerItemHeldEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The only listener of the item system. Each event type is registered once, the GenericItem is resolved
+ * from the relevant ItemStack a single time, and only items that override the matching handler are called.
+ * Event types no registered item handles return right away.
+ */
+final class GenericItemDispatcher implements Listener {
+
+    static final int INTERACT = 1;
+    static final int ENTITY_INTERACT = 1 << 1;
+    static final int CONSUME = 1 << 2;
+    static final int DROP = 1 << 3;
+    static final int HELD_CHANGE = 1 << 4;
+
+    private static int handledEvents = 0;
+
+    /**
+     * Returns the handlers a GenericItem class overrides as a bitmask.
+     */
+    static int handlerMask(Class<? extends GenericItem> type) {
+        int mask = 0;
+        if (overrides(type, "onInteract", PlayerInteractEvent.class)) mask |= INTERACT;
+        if (overrides(type, "onEntityInteract", PlayerInteractEntityEvent.class)) mask |= ENTITY_INTERACT;
+        if (overrides(type, "onConsume", PlayerItemConsumeEvent.class)) mask |= CONSUME;
+        if (overrides(type, "onDrop", PlayerDropItemEvent.class)) mask |= DROP;
+        if (overrides(type, "onHeldChange", PlayerItemHeldEvent.class, boolean.class)) mask |= HELD_CHANGE;
+        return mask;
+    }
+
+    /**
+     * Adds the handlers of a newly registered item to the events that have to be dispatched.
+     */
+    static void register(GenericItem item) {
+        handledEvents |= item.getHandlerMask();
+    }
+
+    private static boolean overrides(Class<?> type, String name, Class<?>... parameters) {
+        try {
+            return type.getMethod(name, parameters).getDeclaringClass() != GenericItem.class;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    @EventHandler
+    public void onInteract(PlayerInteractEvent e) {
+        ItemStack item = e.getItem();
+        GenericItem generic = GenericItem.resolve(item);
+        if (generic == null) return;
+
+        Player player = e.getPlayer();
+        if (generic instanceof BoundItem && !BoundItem.migrateOwner(item) && !BoundItem.hasOwner(item)) {
+            ItemMeta meta = item.getItemMeta();
+            BoundItem.setOwner(meta.getPersistentDataContainer(), player.getUniqueId());
+            List<Component> lore = meta.hasLore() ? meta.lore() : new ArrayList<>();
+            if (lore == null) lore = new ArrayList<>();
+            lore.add(Component.empty());
+            lore.add(MessageHelper.get("item.bound_to_lore", "player", player.getName()));
+            meta.lore(lore);
+            item.setItemMeta(meta);
+            MessageHelper.send(player, "system.item_bound_to_you");
+            return;
+        }
+        if (generic.hasCooldown(player)) {
+            CooldownTicker.blink(player);
+            MessageHelper.playError(player);
+            return;
+        }
+        if (handles(generic, INTERACT)) generic.onInteract(e);
+    }
+
+    @EventHandler
+    public void onEntityInteract(PlayerInteractEntityEvent e) {
+        if ((handledEvents & ENTITY_INTERACT) == 0) return;
+        GenericItem generic = GenericItem.resolve(e.getPlayer().getInventory().getItem(e.getHand()));
+        if (handles(generic, ENTITY_INTERACT)) generic.onEntityInteract(e);
+    }
+
+    @EventHandler
+    public void onConsume(PlayerItemConsumeEvent e) {
+        if ((handledEvents & CONSUME) == 0) return;
+        GenericItem generic = GenericItem.resolve(e.getItem());
+        if (handles(generic, CONSUME)) generic.onConsume(e);
+    }
+
+    @EventHandler
+    public void onDrop(PlayerDropItemEvent e) {
+        if ((handledEvents & DROP) == 0) return;
+        GenericItem generic = GenericItem.resolve(e.getItemDrop().getItemStack());
+        if (handles(generic, DROP)) generic.onDrop(e);
+    }
+
+    @EventHandler
+    public void onHeldChange(PlayerItemHeldEvent e) {
+        if ((handledEvents & HELD_CHANGE) == 0) return;
+        var inventory = e.getPlayer().getInventory();
+        GenericItem previous = GenericItem.resolve(inventory.getItem(e.getPreviousSlot()));
+        if (handles(previous, HELD_CHANGE)) previous.onHeldChange(e, false);
+        GenericItem next = GenericItem.resolve(inventory.getItem(e.getNewSlot()));
+        if (handles(next, HELD_CHANGE)) next.onHeldChange(e, true);
+    }
+
+    @EventHandler
+    public void onQuit(PlayerQuitEvent e) {
+        CooldownStore.clear(e.getPlayer().getUniqueId());
+    }
+
+    private static boolean handles(GenericItem item, int handler) {
+        return item != null && (item.getHandlerMask() & handler) != 0;
+    }
+}
@@ -0,0 +1,15 @@
+package de.redjulu.lib.item;
+
+import de.redjulu.RedJuluLib;
+import org.bukkit.NamespacedKey;
+
+/**
+ * PDC keys of the item system, created once on first use (after RedJuluLib.init()).
+ */
+final class ItemKeys {
+
+    static final NamespacedKey GENERIC_ID = new NamespacedKey(RedJuluLib.getPlugin(), "generic_id");
+    static final NamespacedKey BOUND_OWNER = new NamespacedKey(RedJuluLib.getPlugin(), "bound_owner");
+
+    private ItemKeys() {}
+}
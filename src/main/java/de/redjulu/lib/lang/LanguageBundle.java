@@ -0,0 +1,121 @@
+package de.redjulu.lib.lang;
+
+import net.kyori.adventure.text.minimessage.tag.resolver.Placeholder;
+import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The compiled keys of one language file. Immutable after loading, so it can be read from any thread.
+ * Keys missing in this bundle are looked up in the parent bundle (e.g. de_at → de → default language).
+ * Keys and string values are interned, so bundles of related languages share their strings.
+ */
+final class LanguageBundle {
+
+    private static final String DEFAULT_PREFIX = "<gray>» ";
+
+    private final String code;
+    private final LanguageBundle parent;
+    private final Map<String, Object> values;
+    private final Map<String, MessageTemplate> templates;
+    private final Map<String, List<MessageTemplate>> listTemplates;
+    private final TagResolver prefixResolver;
+
+    private LanguageBundle(String code, LanguageBundle parent, Map<String, Object> values,
+                           Map<String, MessageTemplate> templates, Map<String, List<MessageTemplate>> listTemplates) {
+        this.code = code;
+        this.parent = parent;
+        this.values = values;
+        this.templates = templates;
+        this.listTemplates = listTemplates;
+
+        Object prefix = value("prefix");
+        this.prefixResolver = Placeholder.parsed("prefix", prefix == null ? DEFAULT_PREFIX : String.valueOf(prefix));
+    }
+
+    /**
+     * Reads all keys of a language file and compiles their templates.
+     * @param code The normalized language code (e.g. "de", "de_at").
+     * @param config The loaded language file.
+     * @param parent Bundle for keys missing in this file, null for the default language.
+     */
+    static @NotNull LanguageBundle load(@NotNull String code, @NotNull YamlConfiguration config, @Nullable LanguageBundle parent) {
+        Map<String, Object> values = new HashMap<>();
+        Map<String, MessageTemplate> templates = new HashMap<>();
+        Map<String, List<MessageTemplate>> listTemplates = new HashMap<>();
+
+        for (String key : config.getKeys(true)) {
+            if (config.isConfigurationSection(key)) continue;
+            String internedKey = key.intern();
+            Object value = intern(config.get(key));
+            values.put(internedKey, value);
+
+            String template = String.valueOf(value);
+            templates.put(internedKey, template.isEmpty() || template.equalsIgnoreCase("none")
+                    ? MessageTemplate.EMPTY
+                    : MessageTemplate.compile(template));
+
+            if (value instanceof List<?> rawList) {
+                List<MessageTemplate> lines = new ArrayList<>(rawList.size());
+                for (Object line : rawList) lines.add(MessageTemplate.compile(String.valueOf(line)));
+                listTemplates.put(internedKey, List.copyOf(lines));
+            }
+        }
+        return new LanguageBundle(code.intern(), parent, Map.copyOf(values), Map.copyOf(templates), Map.copyOf(listTemplates));
+    }
+
+    private static Object intern(Object value) {
+        if (value instanceof String s) return s.intern();
+        if (value instanceof List<?> list) {
+            List<Object> interned = new ArrayList<>(list.size());
+            for (Object line : list) interned.add(line instanceof String s ? s.intern() : line);
+            return interned;
+        }
+        return value;
+    }
+
+    /**
+     * Checks if the language file of this bundle had no keys at all.
+     */
+    boolean isEmpty() {
+        return values.isEmpty();
+    }
+
+    @NotNull String code() {
+        return code;
+    }
+
+    @NotNull TagResolver prefixResolver() {
+        return prefixResolver;
+    }
+
+    @Nullable Object value(@NotNull String key) {
+        for (LanguageBundle bundle = this; bundle != null; bundle = bundle.parent) {
+            Object value = bundle.values.get(key);
+            if (value != null) return value;
+        }
+        return null;
+    }
+
+    @Nullable MessageTemplate template(@NotNull String key) {
+        for (LanguageBundle bundle = this; bundle != null; bundle = bundle.parent) {
+            MessageTemplate template = bundle.templates.get(key);
+            if (template != null) return template;
+        }
+        return null;
+    }
+
+    @Nullable List<MessageTemplate> listTemplate(@NotNull String key) {
+        for (LanguageBundle bundle = this; bundle != null; bundle = bundle.parent) {
+            List<MessageTemplate> lines = bundle.listTemplates.get(key);
+            if (lines != null) return lines;
+        }
+        return null;
+    }
+}
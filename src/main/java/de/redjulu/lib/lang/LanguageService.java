@@ -2,28 +2,76 @@ package de.redjulu.lib.lang;
 
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.minimessage.MiniMessage;
-import net.kyori.adventure.text.minimessage.tag.resolver.Placeholder;
-import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
+import org.bukkit.Bukkit;
+import org.bukkit.configuration.InvalidConfigurationException;
 import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.entity.Player;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
 
 /**
  * Service for handling multi-language support and MiniMessage rendering.
+ * The language chosen at init is the default; other languages are loaded lazily from
+ * languages/&lt;code&gt;.yml the first time a player with that client locale needs them.
  */
 public class LanguageService {
 
     private final JavaPlugin plugin;
-    private final Map<String, Object> cache = new HashMap<>();
     public final MiniMessage mm = MiniMessage.miniMessage();
     private final String currentLang;
+    private final List<Runnable> reloadListeners = new CopyOnWriteArrayList<>();
+    private final Set<String> uncachedKeys = ConcurrentHashMap.newKeySet();
+    private final LongAdder renderCacheHits = new LongAdder();
+    private final LongAdder renderCacheMisses = new LongAdder();
+    private volatile int renderCacheSize = 1024;
+    private final Map<String, Component> missingKeyComponents = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> missingKeys = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> renderFailures = new ConcurrentHashMap<>();
+    private volatile boolean warnMissingKeys = false;
+    private volatile LanguageState state;
+
+    /** Client locales are only used as file names if they look like a language code (e.g. "de", "de_at", "zh_hans"). */
+    private static final Pattern LOCALE_CODE = Pattern.compile("[a-z]{2,3}(_[a-z0-9]{2,4})?");
+    /** Upper bound for remembered codes without a language file, so random client locales cannot grow the state. */
+    private static final int MAX_CODES_WITHOUT_FILE = 128;
+    private volatile WatchService watchService;
+
+    /**
+     * Snapshot of all loaded languages. Replaced as a whole on reload, so readers never see a half-loaded state.
+     */
+    private static final class LanguageState {
+        private final LanguageBundle defaultBundle;
+        private final Map<String, LanguageBundle> localeBundles = new ConcurrentHashMap<>();
+        private final Set<String> codesWithoutFile = ConcurrentHashMap.newKeySet();
+        private final RenderCache renderCache;
+
+        private LanguageState(LanguageBundle defaultBundle, int renderCacheSize) {
+            this.defaultBundle = defaultBundle;
+            this.renderCache = new RenderCache(renderCacheSize);
+        }
+    }
 
     /**
      * @param plugin The providing JavaPlugin.
@@ -31,14 +79,18 @@ public class LanguageService {
      */
     public LanguageService(JavaPlugin plugin, String langCode) {
         this.plugin = plugin;
-        this.currentLang = langCode;
+        this.currentLang = normalize(langCode);
         reload();
     }
 
     /**
-     * Reloads all keys from the language file into the cache.
+     * Reloads the default language file and compiles its templates on the calling thread.
+     * Languages that were in use are loaded again before the new state is swapped in.
+     * If a file cannot be parsed or the default language has no keys, the current state is kept.
+     *
+     * @return True if the new state was swapped in.
      */
-    public void reload() {
+    public boolean reload() {
         File langFile = new File(plugin.getDataFolder(), "languages/" + currentLang + ".yml");
 
         if (!langFile.exists()) {
@@ -46,15 +98,335 @@ public class LanguageService {
             plugin.saveResource("languages/en.yml", false);
         }
 
-        YamlConfiguration config = YamlConfiguration.loadConfiguration(langFile);
-        cache.clear();
-        for (String key : config.getKeys(true)) {
-            if (!config.isConfigurationSection(key)) {
-                cache.put(key, config.get(key));
+        LanguageState previous = state;
+        LanguageBundle defaultBundle;
+        try {
+            defaultBundle = LanguageBundle.load(currentLang, readConfig(langFile), null);
+        } catch (IOException | InvalidConfigurationException e) {
+            plugin.getLogger().warning("Could not load language file " + langFile.getName() + ", keeping the loaded language: " + e.getMessage());
+            if (previous != null) return false;
+            defaultBundle = LanguageBundle.load(currentLang, new YamlConfiguration(), null);
+        }
+        if (previous != null && defaultBundle.isEmpty()) {
+            plugin.getLogger().warning("Language file " + langFile.getName() + " has no keys, keeping the loaded language.");
+            return false;
+        }
+
+        LanguageState next = new LanguageState(defaultBundle, renderCacheSize);
+        if (previous != null) {
+            for (Map.Entry<String, LanguageBundle> entry : previous.localeBundles.entrySet()) {
+                try {
+                    bundle(next, entry.getKey(), true);
+                } catch (IOException | InvalidConfigurationException e) {
+                    plugin.getLogger().warning("Could not load language file " + entry.getKey() + ".yml, keeping the loaded version: " + e.getMessage());
+                    next.localeBundles.put(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+        state = next;
+        reloadListeners.forEach(Runnable::run);
+        return true;
+    }
+
+    /**
+     * Reloads all languages on an async thread and swaps them in once they are fully compiled.
+     *
+     * @return Completes with true after the swap and the reload listeners ran, or false if the current state was kept.
+     */
+    public CompletableFuture<Boolean> reloadAsync() {
+        CompletableFuture<Boolean> future = new CompletableFuture<>();
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            try {
+                future.complete(reload());
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            }
+        });
+        return future;
+    }
+
+    private static YamlConfiguration readConfig(File file) throws IOException, InvalidConfigurationException {
+        YamlConfiguration config = new YamlConfiguration();
+        config.load(file);
+        return config;
+    }
+
+    /**
+     * Watches the languages folder and reloads in the background when a .yml file changes.
+     * Not started by RedJuluLib.init(); call it from your plugin if you want hot reload.
+     * Does nothing if the watcher is already running.
+     */
+    public synchronized void startWatching() {
+        if (watchService != null) return;
+        Path folder = new File(plugin.getDataFolder(), "languages").toPath();
+        try {
+            WatchService service = folder.getFileSystem().newWatchService();
+            folder.register(service, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+            watchService = service;
+        } catch (IOException e) {
+            plugin.getLogger().warning("Could not watch language folder: " + e.getMessage());
+            return;
+        }
+
+        Thread thread = new Thread(() -> watch(watchService), "RedJuluLib-LanguageWatcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Stops the file watcher started by startWatching().
+     */
+    public synchronized void stopWatching() {
+        if (watchService == null) return;
+        try {
+            watchService.close();
+        } catch (IOException ignored) {
+        }
+        watchService = null;
+    }
+
+    private void watch(WatchService service) {
+        try {
+            while (true) {
+                WatchKey key = service.take();
+                boolean changed = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.context() instanceof Path file && file.toString().endsWith(".yml")) changed = true;
+                }
+                key.reset();
+                if (!changed) continue;
+
+                // Editors often write a file in several steps; wait until it is quiet.
+                Thread.sleep(250L);
+                WatchKey pending;
+                while ((pending = service.poll()) != null) {
+                    pending.pollEvents();
+                    pending.reset();
+                }
+                try {
+                    reload();
+                } catch (Exception e) {
+                    plugin.getLogger().warning("Language reload failed: " + e.getMessage());
+                }
             }
+        } catch (InterruptedException | ClosedWatchServiceException ignored) {
         }
     }
 
+    /**
+     * Sets the maximum number of rendered messages kept in the render cache. 0 disables the cache.
+     * Takes effect with the next reload.
+     *
+     * @param size The maximum number of entries (default 1024).
+     */
+    public void setRenderCacheSize(int size) {
+        this.renderCacheSize = Math.max(0, size);
+    }
+
+    /**
+     * Excludes a key from the render cache, e.g. for messages whose placeholders change on every call.
+     *
+     * @param key The language key.
+     */
+    public void excludeFromRenderCache(@NotNull String key) {
+        uncachedKeys.add(key);
+    }
+
+    /**
+     * Returns how often a rendered message was served from the render cache.
+     */
+    public long getRenderCacheHits() {
+        return renderCacheHits.sum();
+    }
+
+    /**
+     * Returns how often a cacheable message had to be rendered.
+     */
+    public long getRenderCacheMisses() {
+        return renderCacheMisses.sum();
+    }
+
+    /**
+     * Returns the hit rate of the render cache between 0 and 1.
+     */
+    public double getRenderCacheHitRate() {
+        long hits = renderCacheHits.sum();
+        long total = hits + renderCacheMisses.sum();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    /**
+     * Returns the current number of entries in the render cache.
+     */
+    public int getRenderCacheEntries() {
+        return state.renderCache.size();
+    }
+
+    /**
+     * Logs a warning the first time each missing key is requested.
+     *
+     * @param enabled True to warn once per missing key (default false).
+     */
+    public void setWarnMissingKeys(boolean enabled) {
+        this.warnMissingKeys = enabled;
+    }
+
+    /**
+     * Returns how often each missing key was requested since the last reset, most requested first.
+     *
+     * @return An immutable snapshot of key to request count.
+     */
+    public Map<String, Long> getMissingKeyReport() {
+        return report(missingKeys);
+    }
+
+    /**
+     * Returns how often rendering each key failed since the last reset, most failures first.
+     *
+     * @return An immutable snapshot of key to failure count.
+     */
+    public Map<String, Long> getRenderFailureReport() {
+        return report(renderFailures);
+    }
+
+    /**
+     * Writes the missing-key and render-failure counters to the plugin log.
+     */
+    public void logTelemetry() {
+        Map<String, Long> missing = getMissingKeyReport();
+        Map<String, Long> failures = getRenderFailureReport();
+        plugin.getLogger().info("Language telemetry: " + missing.size() + " missing keys, " + failures.size() + " keys with render failures");
+        missing.forEach((key, count) -> plugin.getLogger().info("  missing " + key + ": " + count));
+        failures.forEach((key, count) -> plugin.getLogger().info("  failed " + key + ": " + count));
+    }
+
+    /**
+     * Resets the missing-key and render-failure counters. Keys will be warned about again.
+     */
+    public void resetTelemetry() {
+        missingKeys.clear();
+        renderFailures.clear();
+    }
+
+    private static Map<String, Long> report(Map<String, LongAdder> counters) {
+        Map<String, Long> report = new LinkedHashMap<>();
+        counters.entrySet().stream()
+                .map(e -> Map.entry(e.getKey(), e.getValue().sum()))
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .forEachOrdered(e -> report.put(e.getKey(), e.getValue()));
+        return Collections.unmodifiableMap(report);
+    }
+
+    /**
+     * Registers a listener that runs after every reload (e.g. to drop caches built from language output).
+     * Listeners may run on a background thread when the reload was triggered by the file watcher or reloadAsync().
+     *
+     * @param listener The listener to run.
+     */
+    public void addReloadListener(@NotNull Runnable listener) {
+        reloadListeners.add(listener);
+    }
+
+    /**
+     * Returns the language code of this service.
+     *
+     * @return The language code (e.g., "de", "en").
+     */
+    public String getLanguageCode() {
+        return currentLang;
+    }
+
+    /**
+     * Returns the code of the language actually used for a locale after the fallback chain
+     * (e.g. "de_at" if languages/de_at.yml exists, otherwise "de" or the default language).
+     *
+     * @param locale The requested locale.
+     * @return The resolved language code.
+     */
+    public String resolveLocale(@NotNull Locale locale) {
+        return bundle(locale).code();
+    }
+
+    /**
+     * Returns the code of the language used for a player's client locale.
+     *
+     * @param player The player.
+     * @return The resolved language code.
+     */
+    public String resolveLocale(@NotNull Player player) {
+        return bundle(player.locale()).code();
+    }
+
+    private LanguageBundle defaultBundle() {
+        return state.defaultBundle;
+    }
+
+    private LanguageBundle bundle(Locale locale) {
+        return bundle(state, locale);
+    }
+
+    private LanguageBundle bundle(LanguageState current, Locale locale) {
+        String code = normalize(locale.toString());
+        if (!LOCALE_CODE.matcher(code).matches()) return current.defaultBundle;
+        return bundle(current, code);
+    }
+
+    private LanguageBundle bundle(LanguageState current, String code) {
+        try {
+            return bundle(current, code, false);
+        } catch (IOException | InvalidConfigurationException e) {
+            // Not thrown in lenient mode.
+            return current.defaultBundle;
+        }
+    }
+
+    /**
+     * Resolves the bundle of a language code.
+     * @param strict True to throw if a language file cannot be parsed, false to log it and use the parent language.
+     */
+    private LanguageBundle bundle(LanguageState current, String code, boolean strict) throws IOException, InvalidConfigurationException {
+        LanguageBundle fallback = current.defaultBundle;
+        if (code.isEmpty() || code.equals(fallback.code())) return fallback;
+
+        LanguageBundle cached = current.localeBundles.get(code);
+        if (cached != null) return cached;
+
+        int separator = code.lastIndexOf('_');
+        LanguageBundle parent = separator > 0 ? bundle(current, code.substring(0, separator), strict) : fallback;
+        // Only codes with a language file are cached; the others use the parent without another file lookup.
+        if (current.codesWithoutFile.contains(code)) return parent;
+        LanguageBundle loaded = loadBundle(code, parent, strict);
+        if (loaded == null) {
+            if (current.codesWithoutFile.size() < MAX_CODES_WITHOUT_FILE) current.codesWithoutFile.add(code);
+            return parent;
+        }
+        LanguageBundle existing = current.localeBundles.putIfAbsent(code, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    private LanguageBundle loadBundle(String code, LanguageBundle parent, boolean strict) throws IOException, InvalidConfigurationException {
+        String path = "languages/" + code + ".yml";
+        File file = new File(plugin.getDataFolder(), path);
+        if (!file.exists()) {
+            try (InputStream resource = plugin.getResource(path)) {
+                if (resource != null) plugin.saveResource(path, false);
+            } catch (IOException ignored) {
+            }
+        }
+        if (!file.exists()) return null;
+        try {
+            return LanguageBundle.load(code, readConfig(file), parent);
+        } catch (IOException | InvalidConfigurationException e) {
+            if (strict) throw e;
+            plugin.getLogger().warning("Could not load language file " + file.getName() + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static String normalize(String code) {
+        return code == null ? "" : code.trim().toLowerCase(Locale.ROOT).replace('-', '_');
+    }
+
     /**
      * Checks if a specific key exists in the language cache.
      *
@@ -62,7 +434,7 @@ public class LanguageService {
      * @return True if the key is registered.
      */
     public boolean has(String key) {
-        return cache.containsKey(key);
+        return defaultBundle().value(key) != null;
     }
 
     /**
@@ -73,17 +445,114 @@ public class LanguageService {
      * @return The rendered Component.
      */
     public Component get(String key, Object... placeholders) {
-        Object raw = cache.get(key);
+        LanguageState current = state;
+        return render(current, current.defaultBundle, key, placeholders);
+    }
+
+    /**
+     * Retrieves a translated component in the player's client language.
+     *
+     * @param player The player whose locale is used.
+     * @param key The language key.
+     * @param placeholders Key-Value pairs for placeholders.
+     * @return The rendered Component.
+     */
+    public Component get(@NotNull Player player, String key, Object... placeholders) {
+        return get(player.locale(), key, placeholders);
+    }
 
-        if (raw == null) return mm.deserialize("<red>Missing Key: " + key);
-        String template = String.valueOf(raw);
-        if (template.isEmpty() || template.equalsIgnoreCase("none")) return Component.empty();
+    /**
+     * Retrieves a translated component in a specific language.
+     *
+     * @param locale The locale to use (falls back to the language and then the default).
+     * @param key The language key.
+     * @param placeholders Key-Value pairs for placeholders.
+     * @return The rendered Component.
+     */
+    public Component get(@NotNull Locale locale, String key, Object... placeholders) {
+        LanguageState current = state;
+        return render(current, bundle(current, locale), key, placeholders);
+    }
 
-        return render(template, placeholders);
+    private Component render(LanguageState current, LanguageBundle bundle, String key, Object... placeholders) {
+        MessageTemplate template = bundle.template(key);
+        if (template == null) return missing(key);
+
+        // Templates without placeholders are already memoised by MessageTemplate itself.
+        if (!RenderCache.isCacheable(placeholders) || uncachedKeys.contains(key)) {
+            return renderSafely(template, bundle, key, placeholders);
+        }
+
+        Component cached = current.renderCache.get(key, bundle.code(), placeholders);
+        if (cached != null) {
+            renderCacheHits.increment();
+            return cached;
+        }
+        renderCacheMisses.increment();
+        Component rendered = renderSafely(template, bundle, key, placeholders);
+        current.renderCache.put(key, bundle.code(), placeholders, rendered);
+        return rendered;
+    }
+
+    private Component renderSafely(MessageTemplate template, LanguageBundle bundle, String key, Object... placeholders) {
+        try {
+            return template.render(mm, bundle.prefixResolver(), placeholders);
+        } catch (RuntimeException e) {
+            if (count(renderFailures, key)) {
+                plugin.getLogger().warning("Could not render language key '" + key + "' (" + bundle.code() + "): " + e.getMessage());
+            }
+            return Component.text(template.source());
+        }
+    }
+
+    private Component missing(String key) {
+        recordMissing(key);
+        return missingKeyComponents.computeIfAbsent(key, k -> mm.deserialize("<red>Missing Key: " + k));
+    }
+
+    private void recordMissing(String key) {
+        if (count(missingKeys, key) && warnMissingKeys) {
+            plugin.getLogger().warning("Missing language key '" + key + "'");
+        }
+    }
+
+    /**
+     * Increments the counter of a key.
+     * @return True if this was the first occurrence of the key.
+     */
+    private static boolean count(Map<String, LongAdder> counters, String key) {
+        LongAdder counter = counters.get(key);
+        boolean first = false;
+        if (counter == null) {
+            LongAdder created = new LongAdder();
+            counter = counters.putIfAbsent(key, created);
+            if (counter == null) {
+                counter = created;
+                first = true;
+            }
+        }
+        counter.increment();
+        return first;
     }
 
     public String getOrDefault(String key, String defaultValue) {
-        Object val = cache.get(key);
+        return getOrDefault(defaultBundle(), key, defaultValue);
+    }
+
+    /**
+     * Returns the raw value of a key in a specific language, or the default value if it is missing, empty or "none".
+     *
+     * @param locale The locale to use.
+     * @param key The language key.
+     * @param defaultValue The fallback value.
+     * @return The raw value or the default value.
+     */
+    public String getOrDefault(@NotNull Locale locale, String key, String defaultValue) {
+        return getOrDefault(bundle(locale), key, defaultValue);
+    }
+
+    private String getOrDefault(LanguageBundle bundle, String key, String defaultValue) {
+        Object val = bundle.value(key);
         if (val == null) return defaultValue;
         String str = String.valueOf(val);
         if (str.isEmpty() || str.equalsIgnoreCase("none")) return defaultValue;
@@ -96,11 +565,9 @@ public class LanguageService {
      * @return The rendered Component.
      */
     public Component getLocked(String key) {
-        String raw = getRaw(key);
-        if (raw.startsWith("<red>Missing Key")) return mm.deserialize(raw);
-
-        String stripped = raw.replaceAll("<[^>]*>", "");
-        return mm.deserialize("<red><strikethrough>" + stripped);
+        MessageTemplate template = defaultBundle().template(key);
+        if (template == null) return missing(key);
+        return template.locked(mm);
     }
 
     /**
@@ -109,15 +576,14 @@ public class LanguageService {
      * @return Eine Liste von Components für den ItemBuilder.
      */
     public List<Component> getLockedList(String key) {
-        Object raw = cache.get(key);
-        if (!(raw instanceof List<?> rawList)) {
+        List<MessageTemplate> lines = defaultBundle().listTemplate(key);
+        if (lines == null) {
             return Collections.singletonList(getLocked(key));
         }
 
-        List<Component> translated = new ArrayList<>();
-        for (Object line : rawList) {
-            String stripped = String.valueOf(line).replaceAll("<[^>]*>", "");
-            translated.add(mm.deserialize("<red><strikethrough>" + stripped));
+        List<Component> translated = new ArrayList<>(lines.size());
+        for (MessageTemplate line : lines) {
+            translated.add(line.locked(mm));
         }
         return translated;
     }
@@ -130,45 +596,45 @@ public class LanguageService {
      * @return A list of rendered Components.
      */
     public List<Component> getList(String key, Object... placeholders) {
-        Object raw = cache.get(key);
-        if (!(raw instanceof List<?> rawList)) return Collections.emptyList();
-
-        List<Component> translated = new ArrayList<>();
-        for (Object line : rawList) {
-            translated.add(render(String.valueOf(line), placeholders));
-        }
-        return translated;
+        return renderList(defaultBundle(), key, placeholders);
     }
 
     /**
-     * Renders a string template with placeholders using MiniMessage.
+     * Retrieves a list of translated components in the player's client language.
      *
-     * @param template The MiniMessage string.
-     * @param placeholders Key-Value pairs.
-     * @return The final Component.
+     * @param player The player whose locale is used.
+     * @param key The language key.
+     * @param placeholders Key-Value pairs for placeholders.
+     * @return A list of rendered Components.
      */
-    private Component render(String template, Object... placeholders) {
-        TagResolver.Builder builder = TagResolver.builder();
-        builder.resolver(Placeholder.parsed("prefix", String.valueOf(cache.getOrDefault("prefix", "<gray>» "))));
+    public List<Component> getList(@NotNull Player player, String key, Object... placeholders) {
+        return renderList(bundle(player.locale()), key, placeholders);
+    }
 
-        for (int i = 0; i < placeholders.length; i += 2) {
-            if (i + 1 < placeholders.length) {
-                String tag = String.valueOf(placeholders[i]);
-                Object value = placeholders[i + 1];
+    /**
+     * Retrieves a list of translated components in a specific language.
+     *
+     * @param locale The locale to use.
+     * @param key The language key.
+     * @param placeholders Key-Value pairs for placeholders.
+     * @return A list of rendered Components.
+     */
+    public List<Component> getList(@NotNull Locale locale, String key, Object... placeholders) {
+        return renderList(bundle(locale), key, placeholders);
+    }
 
-                if (value instanceof Component c) {
-                    builder.resolver(Placeholder.component(tag, c));
-                } else {
-                    builder.resolver(Placeholder.parsed(tag, String.valueOf(value)));
-                }
-            }
+    private List<Component> renderList(LanguageBundle bundle, String key, Object... placeholders) {
+        List<MessageTemplate> lines = bundle.listTemplate(key);
+        if (lines == null) {
+            if (bundle.value(key) == null) recordMissing(key);
+            return Collections.emptyList();
         }
 
-        template = template
-                .replaceAll("\\{(\\w+)}", "<$1>")
-                .replaceAll("\\[(\\w+)]", "<$1>");
-
-        return mm.deserialize(template, builder.build());
+        List<Component> translated = new ArrayList<>(lines.size());
+        for (MessageTemplate line : lines) {
+            translated.add(renderSafely(line, bundle, key, placeholders));
+        }
+        return translated;
     }
 
     /**
@@ -178,8 +644,26 @@ public class LanguageService {
      * @return The raw string or the key itself if not found.
      */
     public String getRaw(String key) {
-        Object val = cache.get(key);
-        if (val == null) return "<red>Missing Key: " + key;
+        return getRaw(defaultBundle(), key);
+    }
+
+    /**
+     * Gets the raw string value of a key in the player's client language.
+     *
+     * @param player The player whose locale is used.
+     * @param key The language key.
+     * @return The raw string or the key itself if not found.
+     */
+    public String getRaw(@NotNull Player player, String key) {
+        return getRaw(bundle(player.locale()), key);
+    }
+
+    private String getRaw(LanguageBundle bundle, String key) {
+        Object val = bundle.value(key);
+        if (val == null) {
+            recordMissing(key);
+            return "<red>Missing Key: " + key;
+        }
         return String.valueOf(val);
     }
 
@@ -192,4 +676,4 @@ public class LanguageService {
     public Component parse(@NotNull String miniMessageText) {
         return mm.deserialize(miniMessageText);
     }
-}
\ No newline at end of file
+}
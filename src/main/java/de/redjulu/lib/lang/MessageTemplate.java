@@ -0,0 +1,236 @@
+package de.redjulu.lib.lang;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.ComponentLike;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.minimessage.tag.Tag;
+import net.kyori.adventure.text.minimessage.tag.resolver.Placeholder;
+import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A language entry compiled once when the language file is loaded.
+ * {x} and [x] are rewritten to &lt;x&gt; ahead of time and the tag names used by the template are collected.
+ * Without matching placeholders, the template is parsed once and the same immutable Component is returned on every call.
+ * <p>
+ * Templates with placeholders are parsed once more on first use, with every placeholder tag replaced by a marker.
+ * The positions of the markers in the Component tree are kept, so rendering only rebuilds the path to each marker
+ * and inserts the values there instead of parsing the template again. String values are parsed on their own
+ * (tags in a value do not leak into the rest of the message). Templates whose placeholders end up outside the
+ * child tree (e.g. inside a hover text) or that get a value for a standard tag name are still parsed per call.
+ */
+final class MessageTemplate {
+
+    private static final Pattern CURLY_PLACEHOLDER = Pattern.compile("\\{(\\w+)}");
+    private static final Pattern SQUARE_PLACEHOLDER = Pattern.compile("\\[(\\w+)]");
+    private static final Pattern TAG_NAME = Pattern.compile("<([!?#]?[A-Za-z0-9_-]+)");
+    private static final Pattern ANY_TAG = Pattern.compile("<[^>]*>");
+    private static final String LOCKED_STYLE = "<red><strikethrough>";
+    private static final String MARKER = "\uE000";
+    /** Parses the marker tree. Not compacted, so every marker stays a separate text node. */
+    private static final MiniMessage MARKER_PARSER = MiniMessage.builder().postProcessor(component -> component).build();
+
+    /** Template of keys configured as "" or "none". */
+    static final MessageTemplate EMPTY = new MessageTemplate("", Set.of(), Component.empty(), LOCKED_STYLE);
+
+    private final String source;
+    private final Set<String> tagNames;
+    private final String lockedSource;
+    private volatile Component constant;
+    private volatile Component locked;
+    private volatile Positional positional;
+
+    /**
+     * The template parsed with markers in place of the placeholders.
+     * @param prefix The prefix resolver the tree was parsed with.
+     * @param tree The parsed tree, or null if the placeholders cannot be inserted by position.
+     * @param markers The marker nodes of the tree and their placeholder names.
+     * @param spine The nodes on the paths to the markers.
+     * @param names The placeholder names that have markers.
+     */
+    private record Positional(TagResolver prefix, Component tree, Map<Component, String> markers, Set<Component> spine, Set<String> names) {}
+
+    private MessageTemplate(String source, Set<String> tagNames, Component constant, String lockedSource) {
+        this.source = source;
+        this.tagNames = tagNames;
+        this.constant = constant;
+        this.lockedSource = lockedSource;
+    }
+
+    /**
+     * Compiles a raw language value.
+     * @param raw The raw MiniMessage string from the language file.
+     */
+    static @NotNull MessageTemplate compile(@NotNull String raw) {
+        String source = SQUARE_PLACEHOLDER.matcher(CURLY_PLACEHOLDER.matcher(raw).replaceAll("<$1>")).replaceAll("<$1>");
+        Set<String> names = new HashSet<>();
+        Matcher matcher = TAG_NAME.matcher(source);
+        while (matcher.find()) names.add(matcher.group(1).toLowerCase(Locale.ROOT));
+        return new MessageTemplate(source, Set.copyOf(names), null, LOCKED_STYLE + ANY_TAG.matcher(raw).replaceAll(""));
+    }
+
+    /**
+     * Returns the MiniMessage source with {x} and [x] already rewritten.
+     */
+    @NotNull String source() {
+        return source;
+    }
+
+    /**
+     * Returns the locked variant: all tags stripped, forced to red and strikethrough.
+     * The stripped source is built at load time, the Component is parsed on first use and then reused.
+     * @param mm The MiniMessage instance.
+     */
+    @NotNull Component locked(@NotNull MiniMessage mm) {
+        Component cached = locked;
+        if (cached == null) {
+            cached = mm.deserialize(lockedSource);
+            locked = cached;
+        }
+        return cached;
+    }
+
+    /**
+     * Renders the template.
+     * @param mm The MiniMessage instance.
+     * @param prefix Resolver for the &lt;prefix&gt; tag.
+     * @param placeholders Key-Value pairs for placeholders.
+     */
+    @NotNull Component render(@NotNull MiniMessage mm, @NotNull TagResolver prefix, Object... placeholders) {
+        Component inserted = renderPositional(mm, prefix, placeholders);
+        if (inserted != null) return inserted;
+
+        TagResolver.Builder builder = null;
+        for (int i = 0; i + 1 < placeholders.length; i += 2) {
+            String tag = String.valueOf(placeholders[i]);
+            if (!tagNames.contains(tag.toLowerCase(Locale.ROOT))) continue;
+            if (builder == null) builder = TagResolver.builder().resolver(prefix);
+
+            Object value = placeholders[i + 1];
+            if (value instanceof Component c) {
+                builder.resolver(Placeholder.component(tag, c));
+            } else {
+                builder.resolver(Placeholder.parsed(tag, String.valueOf(value)));
+            }
+        }
+        if (builder != null) return mm.deserialize(source, builder.build());
+
+        Component cached = constant;
+        if (cached == null) {
+            cached = mm.deserialize(source, prefix);
+            constant = cached;
+        }
+        return cached;
+    }
+
+    /**
+     * Inserts the values into the marker tree. Returns null if the template has to be parsed with the values instead.
+     */
+    private Component renderPositional(MiniMessage mm, TagResolver prefix, Object[] placeholders) {
+        Positional compiled = null;
+        Map<String, Component> values = null;
+        for (int i = 0; i + 1 < placeholders.length; i += 2) {
+            String tag = String.valueOf(placeholders[i]).toLowerCase(Locale.ROOT);
+            if (!tagNames.contains(tag)) continue;
+            if (compiled == null) {
+                compiled = positional;
+                if (compiled == null || compiled.prefix() != prefix) {
+                    compiled = compilePositional(prefix);
+                    positional = compiled;
+                }
+                if (compiled.tree() == null) return null;
+                values = new HashMap<>();
+            }
+            // A value for a standard tag name overrides that tag, which only a full parse can do.
+            if (!compiled.names().contains(tag)) return null;
+
+            Object value = placeholders[i + 1];
+            if (value instanceof Component c) values.put(tag, c);
+            else {
+                String text = String.valueOf(value);
+                values.put(tag, text.indexOf('<') < 0 ? Component.text(text) : mm.deserialize(text));
+            }
+        }
+        return values == null ? null : insert(compiled.tree(), compiled, values);
+    }
+
+    private Component insert(Component node, Positional compiled, Map<String, Component> values) {
+        List<Component> children = node.children();
+        List<ComponentLike> replaced = new ArrayList<>(children.size());
+        for (Component child : children) {
+            String name = compiled.markers().get(child);
+            if (name != null) {
+                Component value = values.get(name);
+                replaced.add(value != null ? value : Component.text("<" + name + ">"));
+            } else {
+                replaced.add(compiled.spine().contains(child) ? insert(child, compiled, values) : child);
+            }
+        }
+        return node.children(replaced);
+    }
+
+    /**
+     * Parses the template with a marker for every non-standard tag and records where the markers ended up.
+     */
+    private Positional compilePositional(TagResolver prefix) {
+        List<String> names = new ArrayList<>();
+        TagResolver.Builder builder = TagResolver.builder().resolver(prefix);
+        boolean any = false;
+        for (String name : tagNames) {
+            String plain = name.startsWith("!") || name.startsWith("?") ? name.substring(1) : name;
+            if (plain.startsWith("#") || plain.equals("prefix") || TagResolver.standard().has(plain)) continue;
+            any = true;
+            builder.resolver(TagResolver.resolver(plain, (args, context) -> {
+                names.add(plain);
+                return Tag.selfClosingInserting(Component.text(MARKER + (names.size() - 1)));
+            }));
+        }
+        if (!any) return new Positional(prefix, null, Map.of(), Set.of(), Set.of());
+
+        Component tree;
+        try {
+            tree = MARKER_PARSER.deserialize(source, builder.build());
+        } catch (RuntimeException e) {
+            return new Positional(prefix, null, Map.of(), Set.of(), Set.of());
+        }
+        Map<Component, String> markers = new IdentityHashMap<>();
+        Set<Component> spine = Collections.newSetFromMap(new IdentityHashMap<>());
+        collectMarkers(tree, names, markers, spine);
+        // Markers inside hover texts or other events are not reachable through the children.
+        if (markers.size() != names.size()) return new Positional(prefix, null, Map.of(), Set.of(), Set.of());
+        return new Positional(prefix, tree, Collections.unmodifiableMap(markers), Collections.unmodifiableSet(spine), Set.copyOf(names));
+    }
+
+    private static boolean collectMarkers(Component node, List<String> names, Map<Component, String> markers, Set<Component> spine) {
+        boolean found = false;
+        for (Component child : node.children()) {
+            if (child instanceof TextComponent text && child.children().isEmpty() && text.content().startsWith(MARKER)) {
+                try {
+                    int index = Integer.parseInt(text.content().substring(MARKER.length()));
+                    if (index >= 0 && index < names.size()) {
+                        markers.put(child, names.get(index));
+                        found = true;
+                        continue;
+                    }
+                } catch (NumberFormatException ignored) {
+                }
+            }
+            if (collectMarkers(child, names, markers, spine)) found = true;
+        }
+        if (found) spine.add(node);
+        return found;
+    }
+}
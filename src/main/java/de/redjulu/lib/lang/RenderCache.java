@@ -0,0 +1,76 @@
+package de.redjulu.lib.lang;
+
+import net.kyori.adventure.text.Component;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded LRU cache of rendered messages, keyed by language key, bundle and placeholder values.
+ * Only placeholder values that are immutable (strings, boxed primitives, components, enums) are cached.
+ */
+final class RenderCache {
+
+    private record Key(String key, String code, Object[] placeholders) {
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key other && key.equals(other.key) && code.equals(other.code)
+                    && Arrays.equals(placeholders, other.placeholders);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * key.hashCode() + code.hashCode()) + Arrays.hashCode(placeholders);
+        }
+    }
+
+    private final int maxSize;
+    private final Map<Key, Component> entries;
+
+    RenderCache(int maxSize) {
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<>(Math.min(maxSize, 256), 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Component> eldest) {
+                return size() > RenderCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * Checks if a placeholder combination can be cached at all.
+     */
+    static boolean isCacheable(Object[] placeholders) {
+        if (placeholders.length == 0) return false;
+        for (Object value : placeholders) {
+            if (!(value instanceof String || value instanceof Integer || value instanceof Long
+                    || value instanceof Double || value instanceof Float || value instanceof Short
+                    || value instanceof Byte || value instanceof Boolean || value instanceof Character
+                    || value instanceof Component || value instanceof Enum<?>)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    Component get(String key, String code, Object[] placeholders) {
+        synchronized (entries) {
+            return entries.get(new Key(key, code, placeholders));
+        }
+    }
+
+    void put(String key, String code, Object[] placeholders, Component component) {
+        if (maxSize <= 0) return;
+        Key cacheKey = new Key(key, code, placeholders.clone());
+        synchronized (entries) {
+            entries.put(cacheKey, component);
+        }
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package de.redjulu.lib.time;
+
+import de.redjulu.RedJuluLib;
+import de.redjulu.lib.lang.LanguageService;
+import net.kyori.adventure.text.Component;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Formats durations into unit parts (e.g. "1h", "5m", "3s").
+ * A formatter is created once per language, unit mask and suffix flag and resolves its suffixes up front.
+ * Results for durations below {@link #CACHED_SECONDS} are kept, so countdowns mostly reuse the same lists.
+ * Formatters are dropped when the language is reloaded.
+ */
+public final class TimeFormatter {
+
+    /**
+     * Units in display order. A month counts as 30 days and a year as 12 months.
+     */
+    public enum Unit {
+        YEAR("year", "y", 12L * 30 * 24 * 60 * 60, Long.MAX_VALUE),
+        MONTH("month", "mo", 30L * 24 * 60 * 60, 12),
+        DAY("day", "d", 24L * 60 * 60, 30),
+        HOUR("hour", "h", 60L * 60, 24),
+        MINUTES("minutes", "m", 60L, 60),
+        SECONDS("seconds", "s", 1L, 60);
+
+        private static final Unit[] VALUES = values();
+
+        private final String key;
+        private final String defaultSuffix;
+        private final long seconds;
+        private final long modulo;
+
+        Unit(String key, String defaultSuffix, long seconds, long modulo) {
+            this.key = key;
+            this.defaultSuffix = defaultSuffix;
+            this.seconds = seconds;
+            this.modulo = modulo;
+        }
+
+        /**
+         * Returns the bit of this unit for unit masks.
+         */
+        public int bit() {
+            return 1 << ordinal();
+        }
+
+        /**
+         * Returns the name used in language keys and unit lists (e.g. "hour").
+         */
+        public String getName() {
+            return key;
+        }
+
+        private long extract(long totalSeconds) {
+            long value = totalSeconds / seconds;
+            return modulo == Long.MAX_VALUE ? value : value % modulo;
+        }
+    }
+
+    /** Mask containing all units. */
+    public static final int ALL_UNITS = (1 << Unit.VALUES.length) - 1;
+    /** Durations from 0 up to this value (exclusive) are cached per formatter. */
+    public static final int CACHED_SECONDS = 600;
+
+    private static final Map<Key, TimeFormatter> FORMATTERS = new ConcurrentHashMap<>();
+
+    private record Key(String language, int mask, boolean suffixes) {}
+
+    private final int mask;
+    private final String[] suffixes = new String[Unit.VALUES.length];
+    private final AtomicReferenceArray<List<Component>> cache = new AtomicReferenceArray<>(CACHED_SECONDS);
+
+    private TimeFormatter(@Nullable Locale locale, int mask, boolean showSuffixes) {
+        this.mask = mask;
+        LanguageService lang = RedJuluLib.getLang();
+        for (Unit unit : Unit.VALUES) {
+            if (!showSuffixes) {
+                suffixes[unit.ordinal()] = "";
+                continue;
+            }
+            String key = "system.time." + unit.key;
+            suffixes[unit.ordinal()] = locale == null
+                    ? lang.getOrDefault(key, unit.defaultSuffix)
+                    : lang.getOrDefault(locale, key, unit.defaultSuffix);
+        }
+    }
+
+    /**
+     * Returns the formatter for a language, unit mask and suffix flag.
+     *
+     * @param locale The locale used for the suffixes, null for the default language.
+     * @param unitMask The units to show, built from {@link Unit#bit()} (or {@link #ALL_UNITS}).
+     * @param showSuffixes Whether to append unit suffixes.
+     * @return The shared formatter.
+     */
+    public static @NotNull TimeFormatter of(@Nullable Locale locale, int unitMask, boolean showSuffixes) {
+        LanguageService lang = RedJuluLib.getLang();
+        String language = locale == null ? lang.getLanguageCode() : lang.resolveLocale(locale);
+        int mask = unitMask & ALL_UNITS;
+        return FORMATTERS.computeIfAbsent(new Key(language, mask, showSuffixes), k -> new TimeFormatter(locale, mask, showSuffixes));
+    }
+
+    /**
+     * Builds a unit mask from unit names (e.g. ["year","month"]).
+     *
+     * @param units The unit names, null for all units.
+     * @return The unit mask.
+     */
+    public static int mask(@Nullable Collection<String> units) {
+        if (units == null) return ALL_UNITS;
+        int mask = 0;
+        for (Unit unit : Unit.VALUES) {
+            if (units.contains(unit.key)) mask |= unit.bit();
+        }
+        return mask;
+    }
+
+    /**
+     * Drops all formatters. Registered as reload listener of the LanguageService.
+     */
+    public static void invalidate() {
+        FORMATTERS.clear();
+    }
+
+    /**
+     * Formats a duration into one Component per non-zero unit. A duration of 0 results in "0s".
+     *
+     * @param totalSeconds The duration in seconds.
+     * @return An immutable list of Components.
+     */
+    public @NotNull List<Component> format(long totalSeconds) {
+        if (totalSeconds >= 0 && totalSeconds < CACHED_SECONDS) {
+            int index = (int) totalSeconds;
+            List<Component> cached = cache.get(index);
+            if (cached == null) {
+                cached = build(totalSeconds);
+                cache.set(index, cached);
+            }
+            return cached;
+        }
+        return build(totalSeconds);
+    }
+
+    /**
+     * Appends the formatted duration to a StringBuilder, separating the units with the given separator.
+     *
+     * @param builder The target.
+     * @param totalSeconds The duration in seconds.
+     * @param separator The separator between units (e.g. " ").
+     * @return The given builder.
+     */
+    public @NotNull StringBuilder appendTo(@NotNull StringBuilder builder, long totalSeconds, @NotNull String separator) {
+        boolean first = true;
+        for (Unit unit : Unit.VALUES) {
+            long value = unit.extract(totalSeconds);
+            if (!shows(unit, value, totalSeconds)) continue;
+            if (!first) builder.append(separator);
+            builder.append(value).append(suffixes[unit.ordinal()]);
+            first = false;
+        }
+        return builder;
+    }
+
+    /**
+     * Formats the duration into a single string, separating the units with the given separator.
+     *
+     * @param totalSeconds The duration in seconds.
+     * @param separator The separator between units (e.g. " ").
+     * @return The formatted string.
+     */
+    public @NotNull String formatString(long totalSeconds, @NotNull String separator) {
+        return appendTo(new StringBuilder(24), totalSeconds, separator).toString();
+    }
+
+    private List<Component> build(long totalSeconds) {
+        List<Component> components = new ArrayList<>(4);
+        StringBuilder part = new StringBuilder(8);
+        for (Unit unit : Unit.VALUES) {
+            long value = unit.extract(totalSeconds);
+            if (!shows(unit, value, totalSeconds)) continue;
+            part.setLength(0);
+            components.add(Component.text(part.append(value).append(suffixes[unit.ordinal()]).toString()));
+        }
+        return List.copyOf(components);
+    }
+
+    private boolean shows(Unit unit, long value, long totalSeconds) {
+        if (unit == Unit.SECONDS && totalSeconds == 0) return true;
+        return value > 0 && (mask & unit.bit()) != 0;
+    }
+}